@@ -0,0 +1,117 @@
+package com.gmbbd.checkMate.bench;
+
+import com.gmbbd.checkMate.model.EvaluationResult;
+import com.gmbbd.checkMate.model.Requirement;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 문서/요구사항 생성 (seed 고정 → 매번 같은 입력)
+ * 실제 과제처럼 한글/영어가 섞이고, 추출 과정에서 생기는 탭/CRLF/연속 공백/제어 문자를 포함
+ */
+final class BenchmarkData {
+
+    private static final String[] KOREAN = {
+            "시스템", "요구사항", "설계", "데이터베이스", "사용자", "로그인", "회원가입", "기능을", "구현한다",
+            "테스트", "결과를", "분석하고", "화면", "구성", "서버", "클라이언트", "보안", "성능", "개선",
+            "문서를", "작성하였다", "모듈", "인터페이스", "정의", "검증", "프로젝트", "일정", "관리"
+    };
+
+    private static final String[] ENGLISH = {
+            "ERD", "API", "REST", "Spring", "Boot", "JPA", "controller", "service", "repository", "entity",
+            "test", "coverage", "latency", "cache", "query", "index", "transaction", "React", "component"
+    };
+
+    private static final String[] NOISE = {" ", " ", " ", "  ", "\t", "\r\n", "\n\n", ", ", ". ", "\u0001"};
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * 대략 bytes (UTF-8) 크기의 제출문
+     */
+    static String document(int bytes, long seed) {
+        Random random = new Random(seed);
+        StringBuilder sb = new StringBuilder(bytes);
+        int size = 0;
+
+        while (size < bytes) {
+            String sentence = sentence(random, 8 + random.nextInt(12), true);
+            sb.append(sentence);
+            size += sentence.getBytes(StandardCharsets.UTF_8).length;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 영어 단어만으로 된 줄 (PDF 기본 폰트로 그릴 수 있도록)
+     */
+    static List<String> englishLines(int count, long seed) {
+        Random random = new Random(seed);
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StringBuilder sb = new StringBuilder();
+            for (int w = 0; w < 10; w++) {
+                if (w > 0) sb.append(' ');
+                sb.append(ENGLISH[random.nextInt(ENGLISH.length)]);
+            }
+            lines.add(sb.toString());
+        }
+        return lines;
+    }
+
+    /**
+     * "1. 내용" 형식의 요구사항 문서
+     */
+    static String rubricText(int requirements, long seed) {
+        Random random = new Random(seed);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1; i <= requirements; i++) {
+            sb.append(i).append(". ").append(sentence(random, 5 + random.nextInt(6), false)).append('\n');
+            if (random.nextInt(4) == 0) {
+                sb.append("   ").append(sentence(random, 6, false)).append('\n');   // 번호 없는 설명 줄
+            }
+        }
+        return sb.toString();
+    }
+
+    static List<Requirement> requirements(int count, long seed) {
+        Random random = new Random(seed);
+        List<Requirement> list = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            list.add(new Requirement((long) i, sentence(random, 5 + random.nextInt(6), false)));
+        }
+        return list;
+    }
+
+    static List<EvaluationResult> results(int count, long seed) {
+        Random random = new Random(seed);
+        String[] statuses = {"FULFILLED", "PARTIAL", "NOT_FULFILLED", "ERROR"};
+
+        List<EvaluationResult> list = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            EvaluationResult r = new EvaluationResult((long) i, sentence(random, 6, false),
+                    statuses[random.nextInt(statuses.length)], random.nextDouble(),
+                    random.nextInt(6), 6, "근거", "근거");
+            r.setDecidedBy(random.nextBoolean() ? "LLM" : "KEYWORD");
+            list.add(r);
+        }
+        return list;
+    }
+
+    private static String sentence(Random random, int words, boolean noisy) {
+        StringBuilder sb = new StringBuilder();
+        for (int w = 0; w < words; w++) {
+            if (w > 0) {
+                sb.append(noisy ? NOISE[random.nextInt(NOISE.length)] : " ");
+            }
+            sb.append(random.nextInt(3) == 0
+                    ? ENGLISH[random.nextInt(ENGLISH.length)]
+                    : KOREAN[random.nextInt(KOREAN.length)]);
+        }
+        return sb.append(noisy ? ".\n" : ".").toString();
+    }
+}
@@ -0,0 +1,50 @@
+package com.gmbbd.checkMate.bench;
+
+import com.gmbbd.checkMate.model.EvaluationResult;
+import com.gmbbd.checkMate.model.Requirement;
+import com.gmbbd.checkMate.service.CompareService;
+import com.gmbbd.checkMate.service.KeywordRubric;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * 키워드 비교 (요구사항 수 × 제출문 크기)
+ *  - evaluateByKeywordMatch : 매번 컴파일 + 스캔 (/api/analyze 경로)
+ *  - evaluatePrecompiled    : 미리 컴파일한 rubric 으로 스캔만 (/api/requirement-sets, /api/bulk 경로)
+ */
+@State(Scope.Benchmark)
+public class KeywordMatchBenchmark {
+
+    @Param({"5", "50", "500"})
+    private int requirements;
+
+    @Param({"10240", "1048576", "10485760"})
+    private int docBytes;
+
+    private final CompareService compareService = new CompareService();
+    private List<Requirement> reqList;
+    private KeywordRubric rubric;
+    private String submission;
+
+    @Setup
+    public void setup() {
+        reqList = BenchmarkData.requirements(requirements, 3L);
+        rubric = compareService.compile(reqList);
+        submission = BenchmarkData.document(docBytes, 4L);
+    }
+
+    @Benchmark
+    public List<EvaluationResult> evaluateByKeywordMatch() {
+        return compareService.evaluateByKeywordMatch(reqList, submission);
+    }
+
+    @Benchmark
+    public List<EvaluationResult> evaluatePrecompiled() {
+        return compareService.evaluate(rubric, submission);
+    }
+}
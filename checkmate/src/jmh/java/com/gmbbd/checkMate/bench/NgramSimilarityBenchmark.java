@@ -0,0 +1,50 @@
+package com.gmbbd.checkMate.bench;
+
+import com.gmbbd.checkMate.model.Requirement;
+import com.gmbbd.checkMate.util.NgramSimilarity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * n-gram TF-IDF 유사도 (checkmate.compare.engine=tfidf)
+ *  - compile : 요구사항 색인 생성
+ *  - score   : 미리 만든 색인으로 제출문 비교
+ * BenchmarkData 문서는 어휘가 수십 개뿐이라 모든 구간이 거의 모든 요구사항과 겹침 (실제 문서보다 불리한 조건)
+ */
+@State(Scope.Benchmark)
+public class NgramSimilarityBenchmark {
+
+    @Param({"5", "50", "500"})
+    private int requirements;
+
+    @Param({"10240", "1048576", "10485760"})
+    private int docBytes;
+
+    private List<String> requirementTexts;
+    private NgramSimilarity similarity;
+    private String submission;
+
+    @Setup
+    public void setup() {
+        requirementTexts = BenchmarkData.requirements(requirements, 3L).stream()
+                .map(Requirement::getRawText)
+                .toList();
+        similarity = new NgramSimilarity(requirementTexts);
+        submission = BenchmarkData.document(docBytes, 4L);
+    }
+
+    @Benchmark
+    public NgramSimilarity compile() {
+        return new NgramSimilarity(requirementTexts);
+    }
+
+    @Benchmark
+    public NgramSimilarity.Scores score() {
+        return similarity.score(submission);
+    }
+}
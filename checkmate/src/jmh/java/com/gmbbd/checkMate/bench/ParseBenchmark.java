@@ -0,0 +1,104 @@
+package com.gmbbd.checkMate.bench;
+
+import com.gmbbd.checkMate.metrics.StageMetrics;
+import com.gmbbd.checkMate.service.ParseService;
+import com.gmbbd.checkMate.service.ParsedTextCache;
+import com.gmbbd.checkMate.util.TextCleaner;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * PDF / DOCX 텍스트 추출 (파싱 + 정제)
+ *  - 스프링 없이 생성하므로 파싱 캐시는 꺼진 상태 (매번 실제로 파싱)
+ *  - threads = 1 이면 한 스레드, 그보다 크면 페이지 구간 병렬 추출
+ */
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+
+    private static final int LINES_PER_PAGE = 45;
+
+    @Param({"10", "100"})
+    private int pages;
+
+    @Param({"1", "4"})
+    private int threads;
+
+    private ForkJoinPool pool;
+    private ParseService parseService;
+    private byte[] pdf;
+    private byte[] docx;
+
+    @Setup
+    public void setup() throws IOException {
+        pool = new ForkJoinPool(threads);
+        parseService = new ParseService(new TextCleaner(), new ParsedTextCache(), pool,
+                new StageMetrics(new SimpleMeterRegistry()));
+
+        pdf = createPdf(BenchmarkData.englishLines(pages * LINES_PER_PAGE, 5L));
+        docx = createDocx(BenchmarkData.document(pages * 3000, 6L));
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public String pdf() {
+        return parseService.extractText("bench.pdf", pdf);
+    }
+
+    @Benchmark
+    public String docx() {
+        return parseService.extractText("bench.docx", docx);
+    }
+
+    private static byte[] createPdf(List<String> lines) throws IOException {
+        try (PDDocument doc = new PDDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (int start = 0; start < lines.size(); start += LINES_PER_PAGE) {
+                PDPage page = new PDPage();
+                doc.addPage(page);
+
+                try (PDPageContentStream cs = new PDPageContentStream(doc, page)) {
+                    cs.beginText();
+                    cs.setFont(PDType1Font.HELVETICA, 10);
+                    cs.setLeading(14);
+                    cs.newLineAtOffset(50, 750);
+                    for (String line : lines.subList(start, Math.min(start + LINES_PER_PAGE, lines.size()))) {
+                        cs.showText(line);
+                        cs.newLine();
+                    }
+                    cs.endText();
+                }
+            }
+            doc.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static byte[] createDocx(String text) throws IOException {
+        try (XWPFDocument doc = new XWPFDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (String line : text.split("\n")) {
+                // DOCX 에는 제어 문자를 넣을 수 없으므로 제거
+                doc.createParagraph().createRun().setText(line.replace("\u0001", "").replace("\r", ""));
+            }
+            doc.write(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.gmbbd.checkMate.bench;
+
+import com.gmbbd.checkMate.model.Requirement;
+import com.gmbbd.checkMate.service.RequirementService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * 요구사항 문서 → Requirement 목록 분리
+ */
+@State(Scope.Benchmark)
+public class RequirementExtractionBenchmark {
+
+    @Param({"5", "50", "500"})
+    private int requirements;
+
+    private final RequirementService requirementService = new RequirementService();
+    private String rubricText;
+
+    @Setup
+    public void setup() {
+        rubricText = BenchmarkData.rubricText(requirements, 2L);
+    }
+
+    @Benchmark
+    public List<Requirement> extractRequirements() {
+        return requirementService.extractRequirements(rubricText);
+    }
+}
@@ -0,0 +1,33 @@
+package com.gmbbd.checkMate.bench;
+
+import com.gmbbd.checkMate.model.EvaluationResult;
+import com.gmbbd.checkMate.model.SummaryResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * 평가 결과 → SummaryResponse 집계
+ */
+@State(Scope.Benchmark)
+public class SummaryBenchmark {
+
+    @Param({"5", "50", "500"})
+    private int results;
+
+    private List<EvaluationResult> resultList;
+
+    @Setup
+    public void setup() {
+        resultList = BenchmarkData.results(results, 7L);
+    }
+
+    @Benchmark
+    public SummaryResponse from() {
+        return SummaryResponse.from(resultList);
+    }
+}
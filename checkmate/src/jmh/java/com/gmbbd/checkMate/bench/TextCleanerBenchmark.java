@@ -0,0 +1,44 @@
+package com.gmbbd.checkMate.bench;
+
+import com.gmbbd.checkMate.util.TextCleaner;
+import com.gmbbd.checkMate.util.TextNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 추출 텍스트 정제 / 비교용 정규화 / 프롬프트용 공백 정리
+ */
+@State(Scope.Benchmark)
+public class TextCleanerBenchmark {
+
+    @Param({"10240", "102400", "1048576", "10485760"})
+    private int docBytes;
+
+    private final TextCleaner cleaner = new TextCleaner();
+    private String raw;
+    private String cleaned;
+
+    @Setup
+    public void setup() {
+        raw = BenchmarkData.document(docBytes, 1L);
+        cleaned = cleaner.clean(raw);
+    }
+
+    @Benchmark
+    public String clean() {
+        return cleaner.clean(raw);
+    }
+
+    @Benchmark
+    public String normalizeForCompare() {
+        return TextNormalizer.normalizeForCompare(cleaned);
+    }
+
+    @Benchmark
+    public String collapseWhitespace() {
+        return TextNormalizer.collapseWhitespace(cleaned);
+    }
+}
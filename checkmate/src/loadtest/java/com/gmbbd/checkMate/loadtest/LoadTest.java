@@ -0,0 +1,181 @@
+package com.gmbbd.checkMate.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * /api/analyze 부하 테스트 (./gradlew loadTest)
+ *  - 합성 요구사항/제출문 txt 를 만들어 목표 요청률(rate/s)로 duration 초 동안 전송
+ *    (응답을 기다리지 않고 정해진 간격으로 보내는 open model → 서버가 밀려도 요청률 유지)
+ *  - 제출문은 요청마다 달라서 파싱/LLM 캐시에 걸리지 않음
+ *  - 끝나면 처리량, 지연 백분위수, 상태 코드별 건수 출력 + build/reports/loadtest/summary.txt 저장
+ *
+ * 시스템 속성 (gradle -P 로 전달)
+ *  target(http://localhost:8080), path(/api/analyze), rate(2), duration(30),
+ *  requirements(10), submissionChars(20000), timeout(120)
+ */
+public class LoadTest {
+
+    private static final String[] WORDS = {
+            "요구사항", "설계", "구현", "테스트", "데이터베이스", "인터페이스", "사용자", "관리자",
+            "로그인", "회원가입", "검색", "정렬", "페이지", "보고서", "ERD", "API", "서버", "클라이언트",
+            "성능", "보안", "캐시", "트랜잭션", "예외", "처리", "화면", "버튼", "입력", "출력",
+            "작성", "제출", "분석", "결과", "기능", "모듈", "클래스", "메서드", "배포", "문서"
+    };
+
+    private record Outcome(int status, long latencyNanos) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String target = System.getProperty("target", "http://localhost:8080");
+        String path = System.getProperty("path", "/api/analyze");
+        double rate = Double.parseDouble(System.getProperty("rate", "2"));
+        int durationSeconds = Integer.parseInt(System.getProperty("duration", "30"));
+        int requirementCount = Integer.parseInt(System.getProperty("requirements", "10"));
+        int submissionChars = Integer.parseInt(System.getProperty("submissionChars", "20000"));
+        int timeoutSeconds = Integer.parseInt(System.getProperty("timeout", "120"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        byte[] requirements = requirementsDocument(requirementCount, new Random(1));
+        URI uri = URI.create(target + path);
+
+        int total = (int) Math.round(rate * durationSeconds);
+        long intervalNanos = (long) (1_000_000_000L / rate);
+
+        System.out.printf("%s 에 %.1f req/s 로 %d초 동안 %d건 전송 (요구사항 %d개, 제출문 %d자)%n",
+                uri, rate, durationSeconds, total, requirementCount, submissionChars);
+
+        ConcurrentLinkedQueue<Outcome> outcomes = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            long due = startedAt + i * intervalNanos;
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            byte[] submission = submissionDocument(submissionChars, new Random(1000L + i));
+            String boundary = "----checkmate-" + UUID.randomUUID();
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .timeout(Duration.ofSeconds(timeoutSeconds))
+                    .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(multipart(boundary, requirements, submission)))
+                    .build();
+
+            long sentAt = System.nanoTime();
+            inFlight.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, error) -> {
+                        int status = (error != null) ? -1 : response.statusCode();
+                        outcomes.add(new Outcome(status, System.nanoTime() - sentAt));
+                        return null;
+                    }));
+        }
+
+        CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0]))
+                .get(timeoutSeconds + 10L, TimeUnit.SECONDS);
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+
+        String report = report(new ArrayList<>(outcomes), elapsedSeconds, rate);
+        System.out.println(report);
+
+        Path out = Path.of("build", "reports", "loadtest", "summary.txt");
+        Files.createDirectories(out.getParent());
+        Files.writeString(out, report, StandardCharsets.UTF_8);
+        System.out.println("저장: " + out.toAbsolutePath());
+    }
+
+    private static String report(List<Outcome> outcomes, double elapsedSeconds, double rate) {
+        Map<String, Integer> byStatus = new TreeMap<>();
+        List<Long> okLatencies = new ArrayList<>();
+        for (Outcome o : outcomes) {
+            byStatus.merge(o.status() < 0 ? "연결 오류/시간 초과" : String.valueOf(o.status()), 1, Integer::sum);
+            if (o.status() == 200) {
+                okLatencies.add(o.latencyNanos());
+            }
+        }
+        Collections.sort(okLatencies);
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("---- 부하 테스트 결과 ----\n");
+        sb.append(String.format("요청 %d건 / %.1f초, 목표 %.2f req/s, 성공 처리량 %.2f req/s%n",
+                outcomes.size(), elapsedSeconds, rate, okLatencies.size() / elapsedSeconds));
+        sb.append("상태 코드별: ").append(byStatus).append('\n');
+        if (!okLatencies.isEmpty()) {
+            sb.append(String.format("지연(성공, ms): p50 %d / p90 %d / p95 %d / p99 %d / max %d%n",
+                    percentile(okLatencies, 50), percentile(okLatencies, 90), percentile(okLatencies, 95),
+                    percentile(okLatencies, 99), okLatencies.get(okLatencies.size() - 1) / 1_000_000));
+        }
+        return sb.toString();
+    }
+
+    private static long percentile(List<Long> sorted, double p) {
+        int index = (int) Math.ceil(p / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1))) / 1_000_000;
+    }
+
+    private static byte[] requirementsDocument(int count, Random random) {
+        StringBuilder sb = new StringBuilder("과제 요구사항\n");
+        for (int i = 1; i <= count; i++) {
+            sb.append(i).append(". ").append(sentence(random, 8 + random.nextInt(8))).append("\n");
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] submissionDocument(int chars, Random random) {
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < chars) {
+            sb.append(sentence(random, 6 + random.nextInt(14))).append(random.nextInt(5) == 0 ? "\n\n" : "\n");
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int w = 0; w < words; w++) {
+            if (w > 0) sb.append(' ');
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.append('.').toString();
+    }
+
+    private static byte[] multipart(String boundary, byte[] requirements, byte[] submission) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        part(out, boundary, "requirements", "requirements.txt", requirements);
+        part(out, boundary, "submission", "submission.txt", submission);
+        out.write(("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+
+    private static void part(ByteArrayOutputStream out, String boundary, String name, String fileName,
+                             byte[] content) throws IOException {
+        out.write(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + fileName + "\"\r\n"
+                + "Content-Type: text/plain\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        out.write(content);
+        out.write("\r\n".getBytes(StandardCharsets.UTF_8));
+    }
+}
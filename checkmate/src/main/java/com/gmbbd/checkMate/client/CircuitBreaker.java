@@ -0,0 +1,83 @@
+package com.gmbbd.checkMate.client;
+
+/**
+ * OpenAI 호출용 서킷 브레이커
+ *  - CLOSED    : 정상, 연속 실패가 failure-threshold 에 도달하면 OPEN
+ *  - OPEN      : open-ms 동안 호출하지 않고 바로 실패 (장애 중인 API 에 요청을 쌓지 않음)
+ *  - HALF_OPEN : open-ms 가 지나면 시험 호출 1건만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+ *               시험 호출이 결과 없이 끝나면(취소 등) releaseTrial() 로 반납해서 다음 호출이 다시 시험 호출이 됨
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    // acquire() 결과 (TRIAL: HALF_OPEN 의 시험 호출)
+    public enum Permit { REJECTED, NORMAL, TRIAL }
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis = Math.max(0, openMillis);
+    }
+
+    /**
+     * 호출해도 되는지 (false 면 호출하지 않고 바로 실패 처리)
+     */
+    public boolean tryAcquire() {
+        return acquire() != Permit.REJECTED;
+    }
+
+    public synchronized Permit acquire() {
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+
+        return switch (state) {
+            case CLOSED -> Permit.NORMAL;
+            case OPEN -> Permit.REJECTED;
+            case HALF_OPEN -> {
+                if (trialInFlight) {
+                    yield Permit.REJECTED;
+                }
+                trialInFlight = true;
+                yield Permit.TRIAL;
+            }
+        };
+    }
+
+    /**
+     * TRIAL 로 받은 호출이 onSuccess / onFailure 없이 끝났을 때 (취소, 판정 대상이 아닌 오류)
+     */
+    public synchronized void releaseTrial() {
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        trialInFlight = false;
+        state = State.CLOSED;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        trialInFlight = false;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,11 @@
+package com.gmbbd.checkMate.client;
+
+/**
+ * 서킷 브레이커가 열려 있어 OpenAI 호출을 시도하지 않은 경우
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    public CircuitOpenException() {
+        super("OpenAI API 오류가 계속되어 잠시 호출을 중단했습니다.");
+    }
+}
@@ -0,0 +1,118 @@
+package com.gmbbd.checkMate.client;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * OpenAI WebClient 필터: 속도 조절 → 서킷 브레이커 → 호출 → 일시적 오류 재시도
+ *  - 요청 전 RateLimitTracker 가 계산한 시간만큼 대기 (429 의 retry-after 포함)
+ *  - 429 / 5xx / 연결 오류 / 응답 시간 초과는 지수 백오프(+jitter)로 재시도
+ *  - 5xx / 연결 오류 / 시간 초과가 이어지면 서킷 브레이커가 열려 바로 실패 (429 는 장애로 보지 않음)
+ *  - 그 외 4xx 는 재시도하지 않고 그대로 반환
+ */
+public class OpenAiResilienceFilter implements ExchangeFilterFunction {
+
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(429, 500, 502, 503, 504);
+
+    private final RateLimitTracker rateLimitTracker;
+    private final CircuitBreaker circuitBreaker;
+    private final int maxRetries;
+    private final Duration minBackoff;
+    private final Duration maxBackoff;
+
+    public OpenAiResilienceFilter(RateLimitTracker rateLimitTracker, CircuitBreaker circuitBreaker,
+                                  int maxRetries, Duration minBackoff, Duration maxBackoff) {
+        this.rateLimitTracker = rateLimitTracker;
+        this.circuitBreaker = circuitBreaker;
+        this.maxRetries = Math.max(0, maxRetries);
+        this.minBackoff = minBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * 재시도할 수 있는 상태 코드 응답 (본문은 이미 버림)
+     */
+    static class RetryableStatusException extends RuntimeException {
+        RetryableStatusException(int status) {
+            super("OpenAI 응답 상태 " + status);
+        }
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> attempt(request, next))
+                .retryWhen(Retry.backoff(maxRetries, minBackoff)
+                        .maxBackoff(maxBackoff)
+                        .jitter(0.5)
+                        .filter(OpenAiResilienceFilter::isTransient)
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    /**
+     * 한도 대기를 먼저 하고 대기가 끝난 뒤에 브레이커 허가를 받음
+     * (대기 중에 HALF_OPEN 시험 자리를 붙잡고 있으면 그동안 다른 호출이 모두 거절됨)
+     */
+    private Mono<ClientResponse> attempt(ClientRequest request, ExchangeFunction next) {
+        Duration delay = rateLimitTracker.delayBeforeRequest();
+        Mono<ClientResponse> call = Mono.defer(() -> callWithPermit(request, next));
+        return delay.isZero() ? call : Mono.delay(delay).then(call);
+    }
+
+    private Mono<ClientResponse> callWithPermit(ClientRequest request, ExchangeFunction next) {
+        CircuitBreaker.Permit permit = circuitBreaker.acquire();
+        if (permit == CircuitBreaker.Permit.REJECTED) {
+            return Mono.error(new CircuitOpenException());
+        }
+
+        // 시험 호출이 성공/실패 판정 없이 끝나면(구독 취소 등) 자리를 반납해야
+        // 브레이커가 HALF_OPEN 에 갇히지 않음
+        AtomicBoolean settled = new AtomicBoolean();
+
+        return next.exchange(request)
+                .flatMap(response -> {
+                    int status = response.statusCode().value();
+                    rateLimitTracker.update(status, response.headers().asHttpHeaders());
+
+                    settled.set(true);
+                    if (status >= 500) {
+                        circuitBreaker.onFailure();
+                    } else {
+                        circuitBreaker.onSuccess();
+                    }
+
+                    if (RETRYABLE_STATUSES.contains(status)) {
+                        return response.releaseBody().then(Mono.error(new RetryableStatusException(status)));
+                    }
+                    return Mono.just(response);
+                })
+                .doOnError(e -> {
+                    if (!settled.get() && isConnectionFailure(e)) {
+                        settled.set(true);
+                        circuitBreaker.onFailure();
+                    }
+                })
+                .doFinally(signal -> {
+                    if (permit == CircuitBreaker.Permit.TRIAL && !settled.get()) {
+                        circuitBreaker.releaseTrial();
+                    }
+                });
+    }
+
+    private static boolean isTransient(Throwable e) {
+        return e instanceof RetryableStatusException || isConnectionFailure(e);
+    }
+
+    private static boolean isConnectionFailure(Throwable e) {
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+}
@@ -0,0 +1,178 @@
+package com.gmbbd.checkMate.client;
+
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+
+/**
+ * OpenAI 응답 헤더로 남은 한도를 추적해서 다음 요청 전에 기다릴 시간 계산
+ *  - x-ratelimit-remaining-requests / x-ratelimit-reset-requests
+ *  - x-ratelimit-remaining-tokens   / x-ratelimit-reset-tokens
+ *  - retry-after-ms / retry-after (429 응답)
+ *  남은 요청 수 / 토큰 수가 각각의 low-watermark 이하로 떨어지면 남은 한도를 초기화 시각까지 고르게 나눠 보냄
+ *  (요청마다 다음 허용 시각을 한 칸씩 밀어서 예약하므로 동시에 물어본 호출들도 간격을 두고 나감)
+ */
+public class RateLimitTracker {
+
+    private final int requestWatermark;
+    private final long tokenWatermark;
+
+    private volatile long pauseUntil;           // 이 시각(ms)까지는 요청하지 않음 (429 / 한도 소진)
+    private volatile long remainingRequests = -1;
+    private volatile long requestsResetAt;
+    private volatile long remainingTokens = -1;
+    private volatile long tokensResetAt;
+
+    private long nextAllowedAt;                 // 마지막으로 예약한 요청 시각 (delayBeforeRequest 에서만 사용)
+
+    public RateLimitTracker(int requestWatermark, long tokenWatermark) {
+        this.requestWatermark = Math.max(0, requestWatermark);
+        this.tokenWatermark = Math.max(0, tokenWatermark);
+    }
+
+    /**
+     * 다음 요청 시각을 예약하고 그때까지 기다릴 시간 반환 (기다릴 필요 없으면 0)
+     *  - 한도가 여유 있으면 예약 없이 바로 (429 대기 중이면 그 시각까지)
+     *  - 한도가 적으면 앞 예약 시각 + 간격, 다 썼으면 초기화 시각 이후로
+     */
+    public synchronized Duration delayBeforeRequest() {
+        long now = System.currentTimeMillis();
+        long slot = Math.max(now, pauseUntil);
+
+        long spacing = Math.max(
+                requestSpacing(now),
+                tokenSpacing(now));
+        if (spacing > 0) {
+            slot = Math.max(slot, Math.max(now, nextAllowedAt) + spacing);
+        }
+        if (isExhausted(remainingRequests, requestsResetAt, now)) {
+            slot = Math.max(slot, requestsResetAt);
+        }
+        if (isExhausted(remainingTokens, tokensResetAt, now)) {
+            slot = Math.max(slot, tokensResetAt);
+        }
+
+        nextAllowedAt = Math.max(nextAllowedAt, slot);
+        return Duration.ofMillis(slot - now);
+    }
+
+    public void update(int status, HttpHeaders headers) {
+        long now = System.currentTimeMillis();
+
+        Long remaining = parseLong(headers.getFirst("x-ratelimit-remaining-requests"));
+        Duration reset = parseDuration(headers.getFirst("x-ratelimit-reset-requests"));
+        if (remaining != null) {
+            remainingRequests = remaining;
+            requestsResetAt = now + (reset == null ? 0 : reset.toMillis());
+        }
+
+        remaining = parseLong(headers.getFirst("x-ratelimit-remaining-tokens"));
+        reset = parseDuration(headers.getFirst("x-ratelimit-reset-tokens"));
+        if (remaining != null) {
+            remainingTokens = remaining;
+            tokensResetAt = now + (reset == null ? 0 : reset.toMillis());
+        }
+
+        if (status == 429) {
+            Duration retryAfter = retryAfter(headers);
+            if (retryAfter == null) {
+                // 헤더가 없으면 한도 초기화 시각까지 (그것도 모르면 1초)
+                long resetAt = Math.max(requestsResetAt, tokensResetAt);
+                retryAfter = Duration.ofMillis(resetAt > now ? resetAt - now : 1000);
+            }
+            pauseUntil = Math.max(pauseUntil, now + retryAfter.toMillis());
+        }
+    }
+
+    /**
+     * 남은 요청 수가 watermark 이하면 초기화까지 남은 시간을 남은 요청 수 + 1 로 나눈 간격
+     * (한도를 다 쓴 경우는 isExhausted 에서 처리)
+     */
+    private long requestSpacing(long now) {
+        long remaining = remainingRequests;
+        long resetAt = requestsResetAt;
+        if (remaining <= 0 || remaining > requestWatermark || resetAt <= now) {
+            return 0;
+        }
+        return (resetAt - now) / (remaining + 1);
+    }
+
+    /**
+     * 남은 토큰이 watermark 이하면 적게 남을수록 간격을 늘림 (watermark 에서 0, 0 에 가까우면 초기화까지)
+     * 요청 1건이 쓸 토큰 수는 모르므로 요청 수처럼 나누지 않고 남은 비율로 계산
+     */
+    private long tokenSpacing(long now) {
+        long remaining = remainingTokens;
+        long resetAt = tokensResetAt;
+        if (remaining <= 0 || remaining > tokenWatermark || resetAt <= now) {
+            return 0;
+        }
+        return (long) ((resetAt - now) * (1.0 - (double) remaining / tokenWatermark));
+    }
+
+    private static boolean isExhausted(long remaining, long resetAt, long now) {
+        return remaining == 0 && resetAt > now;
+    }
+
+    static Duration retryAfter(HttpHeaders headers) {
+        Long millis = parseLong(headers.getFirst("retry-after-ms"));
+        if (millis != null) {
+            return Duration.ofMillis(millis);
+        }
+        String seconds = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (seconds != null) {
+            try {
+                return Duration.ofMillis((long) (Double.parseDouble(seconds.trim()) * 1000));
+            } catch (NumberFormatException ignored) {
+                // HTTP-date 형식은 지원하지 않음
+            }
+        }
+        return null;
+    }
+
+    /**
+     * "20ms", "1s", "6m0s", "1h2m3.5s" 형식의 기간
+     */
+    static Duration parseDuration(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        double millis = 0;
+        int i = 0;
+        String s = value.trim();
+        try {
+            while (i < s.length()) {
+                int start = i;
+                while (i < s.length() && (Character.isDigit(s.charAt(i)) || s.charAt(i) == '.')) i++;
+                double number = Double.parseDouble(s.substring(start, i));
+
+                int unitStart = i;
+                while (i < s.length() && Character.isLetter(s.charAt(i))) i++;
+                switch (s.substring(unitStart, i)) {
+                    case "ms" -> millis += number;
+                    case "s" -> millis += number * 1000;
+                    case "m" -> millis += number * 60_000;
+                    case "h" -> millis += number * 3_600_000;
+                    default -> {
+                        return null;
+                    }
+                }
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return Duration.ofMillis((long) Math.ceil(millis));
+    }
+
+    private static Long parseLong(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.gmbbd.checkMate.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * 요청 스레드와 분리해서 분석 전체(요구사항 평가 루프)를 실행하는 스레드 풀 (스트리밍 응답 등)
+     * LLM 호출 자체는 WebClient(논블로킹)로 진행되므로 응답을 기다리는 동안 스레드를 쓰지 않음
+     */
+    @Bean
+    public ThreadPoolTaskExecutor analysisExecutor(
+            @Value("${checkmate.analysis.worker-threads:4}") int workerThreads,
+            @Value("${checkmate.analysis.queue-capacity:50}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, workerThreads));
+        executor.setMaxPoolSize(Math.max(1, workerThreads));
+        executor.setQueueCapacity(Math.max(0, queueCapacity));
+        executor.setThreadNamePrefix("analysis-");
+        return executor;
+    }
+
+    /**
+     * 일괄 채점 파이프라인의 파싱 단계 (PDFBox/POI, CPU 위주)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService bulkParseExecutor(
+            @Value("${checkmate.bulk.parse-threads:2}") int parseThreads) {
+
+        return Executors.newFixedThreadPool(
+                Math.max(1, parseThreads),
+                new CustomizableThreadFactory("bulk-parse-")
+        );
+    }
+
+    /**
+     * 일괄 채점 파이프라인의 평가 단계 (동시에 평가하는 제출물 수)
+     * 제출물 안의 요구사항별 LLM 호출은 AnalysisService 에서 논블로킹으로 진행
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService bulkEvaluationExecutor(
+            @Value("${checkmate.bulk.evaluation-threads:2}") int evaluationThreads) {
+
+        return Executors.newFixedThreadPool(
+                Math.max(1, evaluationThreads),
+                new CustomizableThreadFactory("bulk-eval-")
+        );
+    }
+
+    /**
+     * 페이지 수가 많은 PDF 를 페이지 구간별로 나눠 추출하는 풀 (ParseService)
+     * 0 이면 CPU 코어 수
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool pdfExtractionPool(
+            @Value("${checkmate.parse.pdf.parallelism:0}") int parallelism) {
+
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+}
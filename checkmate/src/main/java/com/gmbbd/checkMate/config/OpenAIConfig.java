@@ -1,21 +1,79 @@
 package com.gmbbd.checkMate.config;
 
+import com.gmbbd.checkMate.client.CircuitBreaker;
+import com.gmbbd.checkMate.client.OpenAiResilienceFilter;
+import com.gmbbd.checkMate.client.RateLimitTracker;
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 public class OpenAIConfig {
 
+    /**
+     * OpenAI 전용 커넥션 풀
+     * max-connections 가 서버 전체에서 동시에 진행되는 OpenAI 호출 수의 상한
+     * (분석 여러 건이 동시에 들어와도 넘는 호출은 pending 큐에서 대기)
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider openAiConnectionProvider(
+            @Value("${checkmate.openai.pool.max-connections:16}") int maxConnections,
+            @Value("${checkmate.openai.pool.pending-acquire-max:500}") int pendingAcquireMax,
+            @Value("${checkmate.openai.pool.pending-acquire-timeout-ms:120000}") long pendingAcquireTimeoutMs,
+            @Value("${checkmate.openai.pool.max-idle-ms:30000}") long maxIdleMs) {
+
+        return ConnectionProvider.builder("openai")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMax)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleMs))
+                .build();
+    }
+
+    @Bean
+    public RateLimitTracker openAiRateLimitTracker(
+            @Value("${checkmate.openai.rate-limit.low-watermark-requests:5}") int requestWatermark,
+            @Value("${checkmate.openai.rate-limit.low-watermark-tokens:20000}") long tokenWatermark) {
+        return new RateLimitTracker(requestWatermark, tokenWatermark);
+    }
+
+    @Bean
+    public CircuitBreaker openAiCircuitBreaker(
+            @Value("${checkmate.openai.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${checkmate.openai.circuit-breaker.open-ms:30000}") long openMs) {
+        return new CircuitBreaker(failureThreshold, openMs);
+    }
+
     @Bean
     public WebClient openAiWebClient(
             @Value("${openai.api-key:TEST-KEY}") String apiKey,
-            @Value("${openai.base-url:https://api.openai.com/v1}") String baseUrl) {
+            @Value("${openai.base-url:https://api.openai.com/v1}") String baseUrl,
+            @Value("${checkmate.openai.connect-timeout-ms:5000}") int connectTimeoutMs,
+            @Value("${checkmate.openai.response-timeout-ms:120000}") long responseTimeoutMs,
+            @Value("${checkmate.openai.retry.max-retries:3}") int maxRetries,
+            @Value("${checkmate.openai.retry.min-backoff-ms:500}") long minBackoffMs,
+            @Value("${checkmate.openai.retry.max-backoff-ms:20000}") long maxBackoffMs,
+            ConnectionProvider openAiConnectionProvider,
+            RateLimitTracker openAiRateLimitTracker,
+            CircuitBreaker openAiCircuitBreaker) {
+
+        HttpClient httpClient = HttpClient.create(openAiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs));
 
         return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .baseUrl(baseUrl)
                 .defaultHeader("Authorization", "Bearer " + apiKey)
+                .filter(new OpenAiResilienceFilter(openAiRateLimitTracker, openAiCircuitBreaker,
+                        maxRetries, Duration.ofMillis(minBackoffMs), Duration.ofMillis(maxBackoffMs)))
                 .build();
     }
 }
@@ -0,0 +1,27 @@
+package com.gmbbd.checkMate.controller;
+
+import com.gmbbd.checkMate.model.SummaryResponse;
+import com.gmbbd.checkMate.service.AnalysisStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 보관된 분석 결과 조회 (분석을 다시 실행하지 않음)
+ * 분석 API 응답의 analysisId 로 조회, 보관 기간이 지났거나 없는 id 면 404
+ * 보고서 다운로드는 ReportController (/api/analyses/{id}/report)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/analyses")
+public class AnalysisController {
+
+    private final AnalysisStore analysisStore;
+
+    @GetMapping("/{id}")
+    public ResponseEntity<SummaryResponse> get(@PathVariable String id) {
+        return analysisStore.find(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -1,14 +1,24 @@
 package com.gmbbd.checkMate.controller;
 
+import com.gmbbd.checkMate.model.ErrorResponse;
 import com.gmbbd.checkMate.model.EvaluationResult;
+import com.gmbbd.checkMate.model.SummaryAccumulator;
 import com.gmbbd.checkMate.model.SummaryResponse;
 import com.gmbbd.checkMate.service.AnalysisService;
+import com.gmbbd.checkMate.service.AnalysisStore;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -16,6 +26,11 @@ import java.util.List;
 public class AnalyzeController {
 
     private final AnalysisService analysisService;
+    private final AnalysisStore analysisStore;
+    private final ThreadPoolTaskExecutor analysisExecutor;   // ExecutorConfig
+
+    @Value("${checkmate.stream.timeout-ms:600000}")
+    private long streamTimeoutMs;
 
     @PostMapping(
             value = "/analyze",
@@ -27,6 +42,99 @@ public class AnalyzeController {
     ) {
         List<EvaluationResult> results = analysisService.evaluate(req, sub);
 
-        return SummaryResponse.from(results);
+        return analysisStore.save(SummaryResponse.from(results));
+    }
+
+    /**
+     * 논블로킹 분석
+     * 파일 파싱까지만 요청 스레드에서 하고, LLM 응답을 기다리는 동안에는 서블릿 스레드를 반납
+     */
+    @PostMapping(
+            value = "/analyze/reactive",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE
+    )
+    public Mono<SummaryResponse> analyzeReactive(
+            @RequestPart("requirements") MultipartFile req,
+            @RequestPart("submission") MultipartFile sub
+    ) {
+        AnalysisService.PreparedAnalysis prepared = analysisService.prepare(req, sub);
+
+        return analysisService
+                .evaluateMono(prepared.requirements(), prepared.submission())
+                .map(SummaryResponse::from)
+                .map(analysisStore::save);
+    }
+
+    /**
+     * 논블로킹 스트리밍 분석 (NDJSON, Accept: application/x-ndjson)
+     * 평가가 끝나는 순서대로 EvaluationResult 한 줄씩
+     */
+    @PostMapping(
+            value = "/analyze/stream",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    public Flux<EvaluationResult> analyzeNdjson(
+            @RequestPart("requirements") MultipartFile req,
+            @RequestPart("submission") MultipartFile sub
+    ) {
+        AnalysisService.PreparedAnalysis prepared = analysisService.prepare(req, sub);
+
+        return analysisService.evaluateFlux(prepared.requirements(), prepared.submission());
+    }
+
+    /**
+     * 스트리밍 분석 (Server-Sent Events)
+     *  - start   : { "total": 요구사항 수 }
+     *  - result  : EvaluationResult (평가가 끝나는 순서대로)
+     *  - summary : SummaryResponse (마지막 1회, 누적 계산)
+     *  - error   : ErrorResponse (분석 도중 실패한 경우)
+     */
+    @PostMapping(
+            value = "/analyze/stream",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE
+    )
+    public SseEmitter analyzeStream(
+            @RequestPart("requirements") MultipartFile req,
+            @RequestPart("submission") MultipartFile sub
+    ) {
+        // 파일 검증/파싱은 요청 스레드에서 (입력 오류는 일반 400 응답)
+        AnalysisService.PreparedAnalysis prepared = analysisService.prepare(req, sub);
+
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+
+        analysisExecutor.execute(() -> {
+            SummaryAccumulator summary = new SummaryAccumulator();
+            try {
+                send(emitter, "start", Map.of("total", prepared.requirements().size()));
+
+                analysisService.evaluate(prepared.requirements(), prepared.submission(), r -> {
+                    summary.add(r);
+                    send(emitter, "result", r);
+                });
+
+                send(emitter, "summary", analysisStore.save(summary.toResponse()));
+                emitter.complete();
+
+            } catch (Exception e) {
+                send(emitter, "error", new ErrorResponse("분석 중 오류가 발생했습니다."));
+                emitter.completeWithError(e);
+            }
+        });
+
+        return emitter;
+    }
+
+    /**
+     * 클라이언트가 연결을 끊은 경우 등 전송 실패는 무시 (분석 자체는 계속 진행)
+     */
+    private void send(SseEmitter emitter, String event, Object data) {
+        try {
+            synchronized (emitter) {
+                emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+            }
+        } catch (IOException | IllegalStateException ignored) {
+        }
     }
 }
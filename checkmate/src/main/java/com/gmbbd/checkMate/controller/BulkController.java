@@ -0,0 +1,51 @@
+package com.gmbbd.checkMate.controller;
+
+import com.gmbbd.checkMate.exception.ApiException;
+import com.gmbbd.checkMate.model.BulkResponse;
+import com.gmbbd.checkMate.model.RequirementSet;
+import com.gmbbd.checkMate.service.BulkService;
+import com.gmbbd.checkMate.service.RequirementSetService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.Optional;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class BulkController {
+
+    private final BulkService bulkService;
+    private final RequirementSetService requirementSetService;
+
+    /**
+     * 일괄 채점
+     *  - requirements(파일) 또는 requirementSetId(등록된 요구사항 목록) 중 하나
+     *  - submissions: pdf/docx/txt 제출물을 묶은 zip
+     */
+    @PostMapping(
+            value = "/bulk",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE
+    )
+    public ResponseEntity<BulkResponse> bulk(
+            @RequestPart(value = "requirements", required = false) MultipartFile requirements,
+            @RequestParam(value = "requirementSetId", required = false) String requirementSetId,
+            @RequestPart("submissions") MultipartFile submissions
+    ) {
+        Optional<RequirementSet> set;
+        if (requirementSetId != null && !requirementSetId.isBlank()) {
+            set = requirementSetService.find(requirementSetId);
+        } else if (requirements != null) {
+            set = Optional.of(requirementSetService.build(requirements));
+        } else {
+            throw new ApiException("requirements 파일 또는 requirementSetId 가 필요합니다.");
+        }
+
+        return set
+                .map(s -> ResponseEntity.ok(bulkService.grade(s, submissions)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
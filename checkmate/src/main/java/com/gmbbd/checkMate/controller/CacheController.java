@@ -0,0 +1,30 @@
+package com.gmbbd.checkMate.controller;
+
+import com.gmbbd.checkMate.model.CacheStats;
+import com.gmbbd.checkMate.service.CachingLlmService;
+import com.gmbbd.checkMate.service.ParsedTextCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/cache")
+public class CacheController {
+
+    private final CachingLlmService cachingLlmService;
+    private final ParsedTextCache parsedTextCache;
+
+    /**
+     * 캐시별 hit/miss 통계 조회
+     */
+    @GetMapping("/stats")
+    public Map<String, CacheStats> stats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        stats.put("llm", cachingLlmService.stats());
+        stats.put("parse", parsedTextCache.stats());
+        return stats;
+    }
+}
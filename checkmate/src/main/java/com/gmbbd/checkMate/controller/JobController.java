@@ -0,0 +1,42 @@
+package com.gmbbd.checkMate.controller;
+
+import com.gmbbd.checkMate.model.AnalysisJob;
+import com.gmbbd.checkMate.service.JobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/jobs")
+public class JobController {
+
+    private final JobService jobService;
+
+    /**
+     * 분석 작업 등록 → 바로 작업 정보(id, QUEUED) 반환 (202)
+     * 처리 대기열이 가득 차 있으면 429
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<AnalysisJob> submit(
+            @RequestPart("requirements") MultipartFile requirements,
+            @RequestPart("submission") MultipartFile submission
+    ) {
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(jobService.submit(requirements, submission));
+    }
+
+    /**
+     * 작업 상태/진행률/결과 조회 (없거나 만료된 작업이면 404)
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<AnalysisJob> get(@PathVariable String id) {
+        return jobService.find(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -1,28 +1,168 @@
 package com.gmbbd.checkMate.controller;
 
+import com.gmbbd.checkMate.exception.ApiException;
+import com.gmbbd.checkMate.model.SummaryResponse;
+import com.gmbbd.checkMate.service.AnalysisService;
+import com.gmbbd.checkMate.service.AnalysisStore;
 import com.gmbbd.checkMate.service.ReportService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보고서 다운로드
+ *  보고서는 응답 스트림에 바로 기록 (StreamingResponseBody, 전체 보고서를 문자열/버퍼로 모으지 않음)
+ *  /api/report 는 분석과 함께 진행: 요구사항 항목은 평가가 끝나는 대로 전송
+ *  TXT 는 클라이언트가 Accept-Encoding 으로 gzip 을 허용하면(q > 0) gzip 으로 압축해서 전송
+ */
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api")
 public class ReportController {
 
+    private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
     private final ReportService reportService; // 보고서 생성
+    private final AnalysisStore analysisStore;
+
+    @Value("${checkmate.report.gzip:true}")
+    private boolean gzipEnabled;
 
     @PostMapping(
             value = "/report",
             consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
             produces = MediaType.TEXT_PLAIN_VALUE
     )
-    public String generateReport(
+    public ResponseEntity<StreamingResponseBody> generateReport(
             @RequestPart("requirements") MultipartFile requirements, // 요구사항 문서 파일
-            @RequestPart("submission") MultipartFile submission       // 제출물 문서 파일
+            @RequestPart("submission") MultipartFile submission,      // 제출물 문서 파일
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        // 파일 검증/파싱은 요청 스레드에서 (입력 오류는 일반 400 응답)
+        AnalysisService.PreparedAnalysis prepared = reportService.prepare(requirements, submission);
+
+        // 분석 id 는 끝나야 정해지므로 헤더 대신 보고서 끝에 기록
+        // (결과는 보관되므로 같은 결과의 보고서는 /api/analyses/{id}/report 로 다시 받을 수 있음)
+        return textReport(out -> reportService.streamText(prepared, out), acceptEncoding, null, null);
+    }
+
+    /**
+     * 보관된 분석 결과의 보고서 (format = txt | pdf, 분석을 다시 실행하지 않음)
+     * 보관 기간이 지났거나 없는 id 면 404
+     */
+    @GetMapping("/analyses/{id}/report")
+    public ResponseEntity<StreamingResponseBody> report(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "txt") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
-        // 두 파일을 넘겨서 서비스 계층에서 TXT 리포트 생성 후 그대로 문자열 반환
-        return reportService.generateReport(requirements, submission);
+        boolean pdf = "pdf".equalsIgnoreCase(format);
+        if (!pdf && !"txt".equalsIgnoreCase(format)) {
+            throw new ApiException("지원하지 않는 보고서 형식입니다. (txt/pdf)");
+        }
+
+        return analysisStore.find(id)
+                .map(summary -> pdf
+                        ? pdfReport(summary, "checkmate-report-" + id + ".pdf")
+                        : textReport(out -> reportService.writeText(summary, out), acceptEncoding,
+                                summary.getAnalysisId(), "checkmate-report-" + id + ".txt"))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private ResponseEntity<StreamingResponseBody> textReport(StreamingResponseBody report, String acceptEncoding,
+                                                             String analysisId, String fileName) {
+        boolean gzip = gzipEnabled && acceptsGzip(acceptEncoding);
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                // syncFlush: 보고서 쪽에서 flush 할 때 압축된 바이트도 바로 전송
+                GZIPOutputStream gz = new GZIPOutputStream(out, 8192, true);
+                report.writeTo(gz);
+                gz.finish();
+            } else {
+                report.writeTo(out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(TEXT_PLAIN_UTF8)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        if (analysisId != null) {
+            response.header("X-Analysis-Id", analysisId);
+        }
+        if (fileName != null) {
+            response.header(HttpHeaders.CONTENT_DISPOSITION, attachment(fileName));
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Accept-Encoding 이 gzip 을 허용하는지 (q 값 기준)
+     *  - gzip / x-gzip 항목이 있으면 그 q 값이 0 보다 커야 허용 (gzip;q=0 은 거부)
+     *  - 없으면 * 항목의 q 값으로 판단, 둘 다 없으면 거부
+     *  - q 값을 해석할 수 없으면 0 으로 봄
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        double gzip = -1;
+        double any = -1;
+        for (String item : acceptEncoding.split(",")) {
+            String[] params = item.split(";");
+            String coding = params[0].trim().toLowerCase(Locale.ROOT);
+
+            double q = 1.0;
+            for (int i = 1; i < params.length; i++) {
+                String[] pair = params[i].split("=", 2);
+                if (pair.length == 2 && pair[0].trim().equalsIgnoreCase("q")) {
+                    q = parseQuality(pair[1].trim());
+                }
+            }
+
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = Math.max(gzip, q);
+            } else if (coding.equals("*")) {
+                any = Math.max(any, q);
+            }
+        }
+        return (gzip >= 0) ? gzip > 0 : any > 0;
+    }
+
+    private static double parseQuality(String value) {
+        try {
+            double q = Double.parseDouble(value);
+            return (q >= 0 && q <= 1) ? q : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * PDF 는 이미 압축된 형식이라 gzip 을 적용하지 않음
+     */
+    private ResponseEntity<StreamingResponseBody> pdfReport(SummaryResponse summary, String fileName) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, attachment(fileName))
+                .body(out -> reportService.writePdf(summary, out));
+    }
+
+    private static String attachment(String fileName) {
+        return ContentDisposition.attachment().filename(fileName).build().toString();
     }
 }
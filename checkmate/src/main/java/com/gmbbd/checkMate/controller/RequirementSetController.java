@@ -0,0 +1,61 @@
+package com.gmbbd.checkMate.controller;
+
+import com.gmbbd.checkMate.model.RequirementSet;
+import com.gmbbd.checkMate.model.SummaryResponse;
+import com.gmbbd.checkMate.service.AnalysisStore;
+import com.gmbbd.checkMate.service.RequirementSetService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/requirement-sets")
+public class RequirementSetController {
+
+    private final RequirementSetService requirementSetService;
+    private final AnalysisStore analysisStore;
+
+    /**
+     * 요구사항 파일 등록 → id 와 추출된 요구사항 반환 (201)
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<RequirementSet> register(
+            @RequestPart("requirements") MultipartFile requirements
+    ) {
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(requirementSetService.register(requirements));
+    }
+
+    /**
+     * 등록된 요구사항 목록 조회 (없거나 제거된 id 면 404)
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<RequirementSet> get(@PathVariable String id) {
+        return requirementSetService.find(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 등록된 요구사항 목록으로 제출물 분석 (요구사항 파일은 다시 보내지 않음)
+     */
+    @PostMapping(
+            value = "/{id}/analyze",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE
+    )
+    public ResponseEntity<SummaryResponse> analyze(
+            @PathVariable String id,
+            @RequestPart("submission") MultipartFile submission
+    ) {
+        return requirementSetService.analyze(id, submission)
+                .map(SummaryResponse::from)
+                .map(analysisStore::save)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
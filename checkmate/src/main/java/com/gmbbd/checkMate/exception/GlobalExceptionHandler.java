@@ -1,10 +1,14 @@
 package com.gmbbd.checkMate.exception;
 
 import com.gmbbd.checkMate.model.ErrorResponse;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
 @RestControllerAdvice  // 전역 예외처리 핸들러
 public class GlobalExceptionHandler {
 
@@ -19,6 +23,18 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(e.getMessage())); // 예외 메시지 포함한 에러 응답 생성
     }
 
+    /**
+     * 분석 작업 대기열이 가득 찬 경우 (429)
+     * 클라이언트는 잠시 후 재시도
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejected(RejectedExecutionException e) {
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header("Retry-After", "10")
+                .body(new ErrorResponse("처리 중인 분석이 많습니다. 잠시 후 다시 시도해주세요."));
+    }
+
     /**
      * 그 외의 모든 예외
      * 500 INTERNAL_SERVER_ERROR로 통일
@@ -26,7 +42,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneralException(Exception e) {
 
-        e.printStackTrace(); // 서버 콘솔에 전체 스택 트레이스 출력 (디버깅용)
+        log.error("처리되지 않은 예외", e); // 전체 스택 트레이스는 서버 로그에만
 
         return ResponseEntity
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)        // HTTP 500 상태 반환
@@ -0,0 +1,197 @@
+package com.gmbbd.checkMate.fake;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.gmbbd.checkMate.service.TokenEstimator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 테스트용 OpenAI chat/completions 대역 (fake-openai 프로필에서만 등록)
+ *  - openai.base-url 을 이 서버의 /fake-openai/v1 로 지정하면 LlmServiceImpl 이 실제 API 대신 호출
+ *  - 판정은 요구사항 내용의 해시로 정해서 같은 입력이면 항상 같은 결과 (스키마는 실제 프롬프트 응답 형식과 동일)
+ *  - 응답 지연: 로그 정규분포 (median-ms, sigma), 지연 동안 스레드를 붙잡지 않음
+ *  - error-rate 비율로 500, rate-limit-rate 비율로 429 (retry-after-ms 포함)
+ *  - requests-per-minute > 0 이면 분당 한도를 흉내 내서 x-ratelimit-* 헤더를 붙이고 넘으면 429
+ */
+@Profile("fake-openai")
+@RestController
+@RequiredArgsConstructor
+public class FakeOpenAiController {
+
+    private static final Pattern BATCH_ITEM = Pattern.compile("- requirementId: (\\d+)\\n(?:\\s*상위 requirementId: \\d+\\n)?\\s*내용: (.*)");
+    private static final String SINGLE_MARKER = "[요구사항]\n";
+
+    private final ObjectMapper objectMapper;
+    private final TokenEstimator tokenEstimator;
+
+    @Value("${checkmate.fake-openai.latency.median-ms:800}")
+    private long medianMs;
+
+    // 로그 정규분포의 sigma (0 이면 항상 median)
+    @Value("${checkmate.fake-openai.latency.sigma:0.5}")
+    private double sigma;
+
+    @Value("${checkmate.fake-openai.error-rate:0.0}")
+    private double errorRate;
+
+    @Value("${checkmate.fake-openai.rate-limit-rate:0.0}")
+    private double rateLimitRate;
+
+    @Value("${checkmate.fake-openai.requests-per-minute:0}")
+    private int requestsPerMinute;
+
+    @Value("${checkmate.fake-openai.seed:42}")
+    private long seed;
+
+    private Random random;
+    private long windowStart;
+    private int windowCount;
+
+    @PostMapping(value = "/fake-openai/v1/chat/completions", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<String>> chatCompletions(@RequestBody JsonNode request) {
+        String prompt = request.path("messages").path(0).path("content").asText("");
+
+        Draw draw = draw();
+
+        if (draw.rateLimited() != null) {
+            ResponseEntity.BodyBuilder tooMany = rateLimitHeaders(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS), draw)
+                    .header("retry-after-ms", String.valueOf(draw.rateLimited().toMillis()));
+            return Mono.just(tooMany.body("{\"error\":{\"type\":\"rate_limit_exceeded\",\"message\":\"Rate limit reached\"}}"));
+        }
+
+        return Mono.delay(draw.latency()).map(tick -> {
+            if (draw.failed()) {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body("{\"error\":{\"type\":\"server_error\",\"message\":\"fake server error\"}}");
+            }
+
+            String content = content(prompt);
+            return rateLimitHeaders(ResponseEntity.ok(), draw)
+                    .body(completion(request.path("model").asText("gpt-4o-mini"), prompt, content));
+        });
+    }
+
+    private ResponseEntity.BodyBuilder rateLimitHeaders(ResponseEntity.BodyBuilder builder, Draw draw) {
+        if (requestsPerMinute > 0) {
+            builder.header("x-ratelimit-remaining-requests", String.valueOf(draw.remaining()))
+                    .header("x-ratelimit-reset-requests", draw.reset());
+        }
+        return builder;
+    }
+
+    /**
+     * 이번 요청의 지연 / 실패 여부 / 한도 상태를 한 번에 뽑음 (seed 로 재현 가능)
+     */
+    private synchronized Draw draw() {
+        if (random == null) {
+            random = new Random(seed);
+        }
+
+        long now = System.currentTimeMillis();
+        if (now - windowStart >= 60_000) {
+            windowStart = now;
+            windowCount = 0;
+        }
+        long resetMs = Math.max(1, 60_000 - (now - windowStart));
+        String reset = resetMs + "ms";
+
+        if (requestsPerMinute > 0 && windowCount >= requestsPerMinute) {
+            return new Draw(Duration.ZERO, false, Duration.ofMillis(resetMs), 0, reset);
+        }
+        if (random.nextDouble() < rateLimitRate) {
+            return new Draw(Duration.ZERO, false, Duration.ofMillis(1000), Math.max(0, requestsPerMinute - windowCount), reset);
+        }
+
+        windowCount++;
+        long latency = Math.round(medianMs * Math.exp(sigma * random.nextGaussian()));
+        boolean failed = random.nextDouble() < errorRate;
+        return new Draw(Duration.ofMillis(Math.max(0, latency)), failed, null,
+                Math.max(0, requestsPerMinute - windowCount), reset);
+    }
+
+    private record Draw(Duration latency, boolean failed, Duration rateLimited, int remaining, String reset) {
+    }
+
+    /**
+     * 프롬프트 종류에 맞는 응답 본문 (배치: 요구사항 목록 순서의 JSON 배열 / 단건: JSON 객체)
+     */
+    private String content(String prompt) {
+        List<String[]> items = new ArrayList<>();
+        Matcher m = BATCH_ITEM.matcher(prompt);
+        while (m.find()) {
+            items.add(new String[]{m.group(1), m.group(2).trim()});
+        }
+
+        if (!items.isEmpty()) {
+            ArrayNode array = objectMapper.createArrayNode();
+            for (String[] item : items) {
+                ObjectNode verdict = verdict(item[1]);
+                verdict.put("requirementId", Long.parseLong(item[0]));
+                array.add(verdict);
+            }
+            return array.toString();
+        }
+
+        int marker = prompt.lastIndexOf(SINGLE_MARKER);
+        String requirement = (marker < 0) ? prompt : prompt.substring(marker + SINGLE_MARKER.length()).trim();
+        return verdict(requirement).toString();
+    }
+
+    /**
+     * 요구사항 내용 해시로 정하는 판정 (FULFILLED 60% / PARTIAL 25% / NOT_FULFILLED 15%)
+     */
+    private ObjectNode verdict(String requirement) {
+        int bucket = Math.floorMod(requirement.hashCode(), 100);
+        String status = bucket < 60 ? "FULFILLED" : bucket < 85 ? "PARTIAL" : "NOT_FULFILLED";
+        double score = bucket < 60 ? 0.9 : bucket < 85 ? 0.5 : 0.1;
+
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("status", status);
+        node.put("score", score);
+        node.put("matchedKeywordCount", 0);
+        node.put("totalKeywordCount", 0);
+        node.put("evidence", "fake-openai 판정입니다. 요구사항 해시 구간 " + bucket + " 에 따라 " + status + " 로 응답했습니다.");
+        node.put("reason", "fake-openai 판정");
+        return node;
+    }
+
+    private String completion(String model, String prompt, String content) {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("id", "chatcmpl-fake");
+        root.put("object", "chat.completion");
+        root.put("model", model);
+
+        ObjectNode message = objectMapper.createObjectNode();
+        message.put("role", "assistant");
+        message.put("content", content);
+        ObjectNode choice = objectMapper.createObjectNode();
+        choice.put("index", 0);
+        choice.set("message", message);
+        choice.put("finish_reason", "stop");
+        root.putArray("choices").add(choice);
+
+        ObjectNode usage = root.putObject("usage");
+        usage.put("prompt_tokens", tokenEstimator.countPrompt(prompt));
+        usage.put("completion_tokens", tokenEstimator.count(content));
+        usage.putObject("prompt_tokens_details").put("cached_tokens", 0);
+        return root.toString();
+    }
+}
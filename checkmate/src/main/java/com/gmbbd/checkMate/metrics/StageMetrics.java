@@ -0,0 +1,131 @@
+package com.gmbbd.checkMate.metrics;
+
+import com.gmbbd.checkMate.model.EvaluationResult;
+import com.gmbbd.checkMate.model.TokenUsage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 분석 단계별 지표 (Actuator /actuator/prometheus 로 노출)
+ *  - checkmate.stage.duration          : 단계별 처리 시간 (stage, outcome) - 히스토그램
+ *  - checkmate.errors                  : 단계별 예외 수 (stage, exception)
+ *  - checkmate.document.bytes / chars  : 파싱한 문서 크기 분포 (type)
+ *  - checkmate.llm.latency / calls     : OpenAI 호출 시간 / 횟수 (kind = single|batch, outcome)
+ *  - checkmate.llm.tokens              : 응답 usage 기준 토큰 수 (type = prompt|cached|completion|estimated)
+ *  - checkmate.requirements.evaluated  : 판정 결과 수 (decided_by, status)
+ */
+@Component
+@RequiredArgsConstructor
+public class StageMetrics {
+
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+
+    private final MeterRegistry registry;
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    public void stop(Timer.Sample sample, String stage, String outcome) {
+        sample.stop(Timer.builder("checkmate.stage.duration")
+                .description("분석 단계별 처리 시간")
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    /**
+     * body 실행 시간을 stage 이름으로 기록 (예외가 나면 outcome=error + 예외 수 증가 후 그대로 던짐)
+     */
+    public <T> T time(String stage, Supplier<T> body) {
+        Timer.Sample sample = start();
+        try {
+            T result = body.get();
+            stop(sample, stage, SUCCESS);
+            return result;
+        } catch (RuntimeException e) {
+            stop(sample, stage, ERROR);
+            recordError(stage, e);
+            throw e;
+        }
+    }
+
+    public void time(String stage, Runnable body) {
+        time(stage, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    public void recordError(String stage, Throwable e) {
+        Counter.builder("checkmate.errors")
+                .tag("stage", stage)
+                .tag("exception", e.getClass().getSimpleName())
+                .register(registry)
+                .increment();
+    }
+
+    public void recordDocument(String type, long bytes, int chars) {
+        DistributionSummary.builder("checkmate.document.bytes")
+                .baseUnit("bytes")
+                .tag("type", type)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(bytes);
+        DistributionSummary.builder("checkmate.document.chars")
+                .tag("type", type)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(chars);
+    }
+
+    public void recordLlmCall(String kind, String outcome, long nanos) {
+        Timer.builder("checkmate.llm.latency")
+                .description("OpenAI 호출 1회 응답 시간 (재시도 포함)")
+                .tag("kind", kind)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        Counter.builder("checkmate.llm.calls")
+                .tag("kind", kind)
+                .tag("outcome", outcome)
+                .register(registry)
+                .increment();
+    }
+
+    public void recordTokens(TokenUsage usage) {
+        if (usage == null) {
+            return;
+        }
+        tokens("prompt", usage.getPromptTokens());
+        tokens("cached", usage.getCachedTokens());
+        tokens("completion", usage.getCompletionTokens());
+        tokens("estimated", usage.getEstimatedPromptTokens());
+    }
+
+    public void recordResult(EvaluationResult r) {
+        Counter.builder("checkmate.requirements.evaluated")
+                .tag("decided_by", r.getDecidedBy() == null ? "none" : r.getDecidedBy())
+                .tag("status", r.getStatus() == null ? "none" : r.getStatus())
+                .register(registry)
+                .increment();
+    }
+
+    private void tokens(String type, int count) {
+        Counter.builder("checkmate.llm.tokens")
+                .baseUnit("tokens")
+                .tag("type", type)
+                .register(registry)
+                .increment(count);
+    }
+}
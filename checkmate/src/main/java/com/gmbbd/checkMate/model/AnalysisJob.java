@@ -0,0 +1,60 @@
+package com.gmbbd.checkMate.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 분석 작업 상태
+ * - status     : QUEUED / RUNNING / COMPLETED / FAILED
+ * - total      : 평가할 요구사항 수 (파싱이 끝나야 알 수 있으므로 그 전에는 0)
+ * - completed  : 평가가 끝난 요구사항 수
+ * - summary    : COMPLETED 일 때 최종 결과
+ * - error      : FAILED 일 때 오류 메시지
+ */
+@Getter
+public class AnalysisJob {
+
+    private final String id;
+    private final Instant createdAt = Instant.now();
+
+    private volatile String status = "QUEUED";
+    private volatile int total;
+    private volatile SummaryResponse summary;
+    private volatile String error;
+    private volatile Instant finishedAt;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger completedCount = new AtomicInteger();
+
+    public AnalysisJob(String id) {
+        this.id = id;
+    }
+
+    public int getCompleted() {
+        return completedCount.get();
+    }
+
+    public void start(int total) {
+        this.total = total;
+        this.status = "RUNNING";
+    }
+
+    public void progress() {
+        completedCount.incrementAndGet();
+    }
+
+    public void complete(SummaryResponse summary) {
+        this.summary = summary;
+        this.finishedAt = Instant.now();
+        this.status = "COMPLETED";
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.status = "FAILED";
+    }
+}
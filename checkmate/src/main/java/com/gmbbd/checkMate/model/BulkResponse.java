@@ -0,0 +1,67 @@
+package com.gmbbd.checkMate.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 채점(/api/bulk) 결과
+ * - submissions          : 제출물별 결과 (ZIP 안의 순서)
+ * - cohort               : 전체 제출물 집계
+ * - skipped              : 지원하지 않는 형식이라 건너뛴 ZIP 항목
+ * - elapsedMs            : 압축 해제 ~ 마지막 평가까지 걸린 시간
+ * - submissionsPerMinute : 처리량
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkResponse {
+
+    private List<Submission> submissions;
+    private Cohort cohort;
+    private List<String> skipped;
+    private long elapsedMs;
+    private double submissionsPerMinute;
+
+    /**
+     * 제출물 하나의 결과 (실패하면 summary 없이 error 만)
+     */
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Submission {
+        private String fileName;
+        private SummaryResponse summary;
+        private String error;
+    }
+
+    /**
+     * 분석에 성공한 제출물 기준 점수 통계 + 요구사항별 판정 분포
+     */
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Cohort {
+        private int total;
+        private int succeeded;
+        private int failed;
+        private double averageScore;
+        private double minScore;
+        private double maxScore;
+        private List<RequirementStat> requirements;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RequirementStat {
+        private Long requirementId;
+        private String requirementText;
+        private int fulfilled;
+        private int partial;
+        private int notFulfilled;
+        private int error;
+    }
+}
@@ -0,0 +1,33 @@
+package com.gmbbd.checkMate.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시 상태 조회용
+ * - size      : 현재 저장된 항목 수
+ * - hits      : 캐시에서 바로 응답한 횟수
+ * - misses    : 캐시에 없어 실제로 계산(LLM 호출 등)한 횟수
+ * - evictions : 용량/TTL 초과로 제거된 항목 수
+ * - savedBytes: 캐시 적중으로 다시 처리하지 않은 입력 바이트 수 (해당하는 캐시만)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStats {
+
+    private int size;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long savedBytes;
+
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
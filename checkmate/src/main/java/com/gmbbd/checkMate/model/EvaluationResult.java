@@ -1,27 +1,35 @@
 package com.gmbbd.checkMate.model;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.List;
+
 /**
  * - requirementId        : 어떤 요구사항의 결과인지
+ * - parentRequirementId  : 요구사항의 상위 항목 번호 (최상위면 null)
  * - requirementText      : 요구사항 원문 텍스트
- * - status               : FULFILLED / PARTIAL / NOT_FULFILLED
+ * - status               : FULFILLED / PARTIAL / NOT_FULFILLED (평가 실패 시 ERROR)
  * - score                : 매칭 점수
  * - matchedKeywordCount  : 과제 텍스트에서 실제로 매칭된 키워드 개수
  * - totalKeywordCount    : 평가에 사용된 전체 키워드 개수
  * - evidence             : 상태 판단의 근거(키워드 매칭 설명 또는 LLM 분석 결과)
+ * - contextChunkIds      : 검색 단계에서 골라 LLM에 보낸 제출문 청크 번호 (전체 제출문을 보냈으면 null)
+ * - contextPages         : 그 청크들이 걸친 제출문 페이지 번호 (1부터, 전체 제출문을 보냈거나 한 페이지 문서면 null)
+ * - decidedBy            : 판정한 단계 (KEYWORD: 키워드 비교만으로 결정 / LLM: LLM 호출)
+ * - usage                : 이 결과를 얻는 데 쓴 토큰 수 (LLM을 실제로 호출한 경우만, 배치 호출은 나눠서 기록,
+ *                          제출문을 여러 구간으로 나눠 평가했으면 모든 구간의 합)
  */
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 public class EvaluationResult {
 
     private Long requirementId;
 
+    private Long parentRequirementId;
+
     private String requirementText;
 
     private String status;
@@ -36,6 +44,26 @@ public class EvaluationResult {
 
     private String reason;
 
+    private List<Integer> contextChunkIds;
+
+    private List<Integer> contextPages;
+
+    private String decidedBy;
+
+    private TokenUsage usage;
+
+    public EvaluationResult(Long requirementId, String requirementText, String status, double score,
+                            int matchedKeywordCount, int totalKeywordCount, String evidence, String reason) {
+        this.requirementId = requirementId;
+        this.requirementText = requirementText;
+        this.status = status;
+        this.score = score;
+        this.matchedKeywordCount = matchedKeywordCount;
+        this.totalKeywordCount = totalKeywordCount;
+        this.evidence = evidence;
+        this.reason = reason;
+    }
+
     public String getReason() {
         return reason;
     }
@@ -43,4 +71,20 @@ public class EvaluationResult {
     public void setReason(String reason) {
         this.reason = reason;
     }
+
+    /**
+     * 같은 값을 가진 새 객체 (캐시에 저장된 결과를 호출 측이 수정해도 캐시가 바뀌지 않도록)
+     */
+    public EvaluationResult copy() {
+        EvaluationResult r = new EvaluationResult(
+                requirementId, requirementText, status, score,
+                matchedKeywordCount, totalKeywordCount, evidence, reason
+        );
+        r.setParentRequirementId(parentRequirementId);
+        r.setContextChunkIds(contextChunkIds);
+        r.setContextPages(contextPages);
+        r.setDecidedBy(decidedBy);
+        r.setUsage(usage == null ? null : usage.copy());
+        return r;
+    }
 }
@@ -0,0 +1,48 @@
+package com.gmbbd.checkMate.model;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * 텍스트 추출 결과
+ * - text        : 정제된 전체 텍스트
+ * - pageOffsets : 각 페이지가 text 에서 시작하는 위치 (PDF 가 아니면 [0] 한 페이지)
+ */
+@Getter
+public class ParsedDocument {
+
+    private final String text;
+    private final int[] pageOffsets;
+
+    public ParsedDocument(String text, int[] pageOffsets) {
+        this.text = text;
+        this.pageOffsets = pageOffsets;
+    }
+
+    /**
+     * 페이지 구분이 없는 텍스트 (한 페이지)
+     */
+    public ParsedDocument(String text) {
+        this(text, new int[]{0});
+    }
+
+    public int getPageCount() {
+        return pageOffsets.length;
+    }
+
+    /**
+     * text 의 offset 위치가 속한 페이지 번호 (1부터)
+     * 내용이 없는 페이지는 다음 페이지와 시작 위치가 같으므로 뒤쪽 페이지로 봄
+     */
+    public int pageOf(int offset) {
+        int i = Arrays.binarySearch(pageOffsets, offset);
+        if (i < 0) {
+            return Math.max(1, -i - 1);
+        }
+        while (i + 1 < pageOffsets.length && pageOffsets[i + 1] == offset) {
+            i++;
+        }
+        return i + 1;
+    }
+}
@@ -1,19 +1,62 @@
 package com.gmbbd.checkMate.model;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.gmbbd.checkMate.util.TextNormalizer;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 /**
  * Requirement
  * id: 요구사항 번호
  * rawText: 원본 요구사항 문장
+ * parentId: 상위 항목의 요구사항 번호 (1.2 → 1, 1. 아래의 (a) / 불릿 → 1, 최상위면 null)
+ * level: 깊이 (최상위 0)
+ * promptText: 프롬프트 / LLM 캐시 키에 쓰는 공백 정리한 rawText (처음 쓸 때 계산, RequirementSet 은 등록 시 미리 계산)
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class Requirement {
 
     private Long id;
     private String rawText;
-}
\ No newline at end of file
+    private Long parentId;
+    private int level;
+
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @Setter(AccessLevel.NONE)
+    private String promptText;
+
+    public Requirement(Long id, String rawText, Long parentId, int level) {
+        this.id = id;
+        this.rawText = rawText;
+        this.parentId = parentId;
+        this.level = level;
+    }
+
+    public Requirement(Long id, String rawText) {
+        this(id, rawText, null, 0);
+    }
+
+    public void setRawText(String rawText) {
+        this.rawText = rawText;
+        this.promptText = null;
+    }
+
+    /**
+     * 여러 스레드에서 동시에 처음 불려도 같은 값을 계산하므로 별도 동기화 없음
+     */
+    public String getPromptText() {
+        String text = promptText;
+        if (text == null) {
+            text = TextNormalizer.collapseWhitespace(rawText);
+            promptText = text;
+        }
+        return text;
+    }
+}
@@ -0,0 +1,38 @@
+package com.gmbbd.checkMate.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.gmbbd.checkMate.service.KeywordRubric;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 한 번 등록해 두고 여러 제출물 분석에 재사용하는 요구사항 목록
+ * - id           : 등록 시 발급 (/api/requirement-sets/{id}/analyze)
+ * - fileName     : 등록한 요구사항 파일 이름
+ * - requirements : 추출된 요구사항
+ * - rubric       : 키워드 비교용으로 미리 컴파일한 결과 (응답에는 포함하지 않음)
+ * 요구사항마다 프롬프트용 텍스트(Requirement.promptText)도 등록할 때 미리 계산해서
+ * 제출물마다 반복되는 프롬프트 생성 / LLM 캐시 키 계산에서 다시 정규화하지 않음
+ */
+@Getter
+public class RequirementSet {
+
+    private final String id;
+    private final String fileName;
+    private final Instant createdAt = Instant.now();
+    private final List<Requirement> requirements;
+
+    @JsonIgnore
+    private final KeywordRubric rubric;
+
+    public RequirementSet(String id, String fileName, List<Requirement> requirements, KeywordRubric rubric) {
+        this.id = id;
+        this.fileName = fileName;
+        this.requirements = List.copyOf(requirements);
+        this.rubric = rubric;
+
+        this.requirements.forEach(Requirement::getPromptText);
+    }
+}
@@ -0,0 +1,76 @@
+package com.gmbbd.checkMate.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * EvaluationResult 를 하나씩 받으며 SummaryResponse 값을 누적 계산
+ * (스트리밍처럼 결과가 순서 없이 하나씩 도착하는 경우에도 마지막에 전체를 다시 훑지 않도록)
+ * 여러 스레드에서 add 할 수 있도록 synchronized
+ */
+public class SummaryAccumulator {
+
+    private int fulfilled;
+    private int partial;
+    private int notFulfilled;
+    private int error;
+    private int keywordDecided;
+    private int llmDecided;
+    private double scoreSum;
+    private final TokenUsage usage = new TokenUsage();
+
+    private final List<EvaluationResult> details = new ArrayList<>();
+
+    public synchronized void add(EvaluationResult r) {
+        switch (r.getStatus()) {
+            case "FULFILLED" -> fulfilled++;
+            case "PARTIAL" -> partial++;
+            case "ERROR" -> error++;
+            default -> notFulfilled++;
+        }
+
+        if ("KEYWORD".equals(r.getDecidedBy())) {
+            keywordDecided++;
+        } else if ("LLM".equals(r.getDecidedBy())) {
+            llmDecided++;
+        }
+
+        scoreSum += r.getScore();
+        usage.add(r.getUsage());
+        details.add(r);
+    }
+
+    public synchronized int count() {
+        return details.size();
+    }
+
+    /**
+     * 지금까지 누적된 값으로 SummaryResponse 생성 (details 는 요구사항 번호 순)
+     */
+    public synchronized SummaryResponse toResponse() {
+        List<EvaluationResult> sorted = new ArrayList<>(details);
+        sorted.sort(Comparator.comparing(
+                EvaluationResult::getRequirementId,
+                Comparator.nullsLast(Comparator.naturalOrder())
+        ));
+
+        return summarize(sorted);
+    }
+
+    /**
+     * 누적된 집계값 + 주어진 details 로 SummaryResponse 생성
+     */
+    synchronized SummaryResponse summarize(List<EvaluationResult> resultDetails) {
+        int total = details.size();
+        double finalScore = total == 0 ? 0 : (scoreSum / total) * 100;
+
+        return new SummaryResponse(
+                null,
+                fulfilled, partial, notFulfilled, error, finalScore,
+                keywordDecided, llmDecided,
+                usage.copy(),
+                resultDetails
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package com.gmbbd.checkMate.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -11,30 +12,29 @@ import java.util.List;
 @NoArgsConstructor
 public class SummaryResponse {
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String analysisId;    // AnalysisStore 에 보관된 경우의 id (/api/analyses/{id}/report 로 보고서 조회)
+
     private int fulfilled;
     private int partial;
     private int notFulfilled;
+    private int error;        // LLM 호출 실패 등으로 평가하지 못한 항목 수
     private double score;
 
+    private int keywordDecided;   // 키워드 비교만으로 판정된 항목 수 (LLM 호출 절약분)
+    private int llmDecided;       // LLM으로 판정된 항목 수
+
+    private TokenUsage usage;     // 이번 분석에서 실제로 사용한 토큰 수 합계 (캐시 적중 항목 제외)
+
     private List<EvaluationResult> details;
 
     public static SummaryResponse from(List<EvaluationResult> results) {
 
-        int f = 0, p = 0, u = 0;
-        double scoreSum = 0;
-
+        SummaryAccumulator acc = new SummaryAccumulator();
         for (EvaluationResult r : results) {
-            switch (r.getStatus()) {
-                case "FULFILLED" -> f++;
-                case "PARTIAL" -> p++;
-                default -> u++;
-            }
-            scoreSum += r.getScore();
+            acc.add(r);
         }
 
-        int total = results.size();
-        double finalScore = total == 0 ? 0 : (scoreSum / total) * 100;
-
-        return new SummaryResponse(f, p, u, finalScore, results);
+        return acc.summarize(results);   // details 는 호출 측이 넘긴 순서 그대로 유지
     }
 }
@@ -0,0 +1,58 @@
+package com.gmbbd.checkMate.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * OpenAI 응답의 usage 블록
+ * - promptTokens          : 입력 토큰 수
+ * - cachedTokens          : 입력 중 프롬프트 캐시(앞부분 재사용)로 처리된 토큰 수
+ * - completionTokens      : 출력 토큰 수
+ * - estimatedPromptTokens : 호출 전에 TokenEstimator 로 센 입력 토큰 수 (예산 확인용)
+ */
+@Data
+@NoArgsConstructor
+public class TokenUsage {
+
+    private int promptTokens;
+    private int cachedTokens;
+    private int completionTokens;
+    private int estimatedPromptTokens;
+
+    public TokenUsage(int promptTokens, int cachedTokens, int completionTokens) {
+        this.promptTokens = promptTokens;
+        this.cachedTokens = cachedTokens;
+        this.completionTokens = completionTokens;
+    }
+
+    public void add(TokenUsage other) {
+        if (other == null) return;
+        promptTokens += other.promptTokens;
+        cachedTokens += other.cachedTokens;
+        completionTokens += other.completionTokens;
+        estimatedPromptTokens += other.estimatedPromptTokens;
+    }
+
+    public TokenUsage copy() {
+        TokenUsage u = new TokenUsage(promptTokens, cachedTokens, completionTokens);
+        u.setEstimatedPromptTokens(estimatedPromptTokens);
+        return u;
+    }
+
+    /**
+     * 배치 호출 1회의 사용량을 결과 n 개에 나눔 (나머지는 앞쪽부터 1씩, 합계는 원래 값과 같음)
+     */
+    public TokenUsage share(int index, int n) {
+        TokenUsage u = new TokenUsage(
+                part(promptTokens, index, n),
+                part(cachedTokens, index, n),
+                part(completionTokens, index, n)
+        );
+        u.setEstimatedPromptTokens(part(estimatedPromptTokens, index, n));
+        return u;
+    }
+
+    private static int part(int total, int index, int n) {
+        return total / n + (index < total % n ? 1 : 0);
+    }
+}
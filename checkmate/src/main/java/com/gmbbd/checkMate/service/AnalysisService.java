@@ -1,41 +1,368 @@
 package com.gmbbd.checkMate.service;
 
+import com.gmbbd.checkMate.metrics.StageMetrics;
 import com.gmbbd.checkMate.model.EvaluationResult;
+import com.gmbbd.checkMate.model.ParsedDocument;
 import com.gmbbd.checkMate.model.Requirement;
+import com.gmbbd.checkMate.model.RequirementSet;
+import com.gmbbd.checkMate.util.ChunkIndex;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class AnalysisService {
 
+    private static final Comparator<EvaluationResult> BY_REQUIREMENT_ID = Comparator.comparing(
+            EvaluationResult::getRequirementId,
+            Comparator.nullsLast(Comparator.naturalOrder())
+    );
+
     private final ValidationService validationService;
     private final ParseService parseService;
     private final RequirementService requirementService;
     private final LlmService llmService;
+    private final RetrievalService retrievalService;
+    private final CompareService compareService;
+    private final StageMetrics stageMetrics;
+
+    // 분석 1건에서 동시에 진행할 LLM 호출 수
+    @Value("${checkmate.llm.max-concurrency:4}")
+    private int maxConcurrency;
+
+    // 한 번의 LLM 호출에 묶어서 보낼 요구사항 수 (1 = 요구사항마다 개별 호출)
+    @Value("${checkmate.llm.batch-size:1}")
+    private int batchSize;
+
+    // true 면 최상위 요구사항과 그 하위 항목들(1 → 1.1, 1.2, (a) ...)을 한 번의 호출로 평가 (결과는 항목마다)
+    // 호출 수를 줄이는 묶음일 뿐, 상위 항목이 같은 호출에 없으면 그 내용은 프롬프트에 들어가지 않음
+    @Value("${checkmate.llm.group-by-parent:false}")
+    private boolean groupByParent;
+
+    // group-by-parent 에서 한 호출에 넣을 최대 항목 수 (넘으면 나눠서 호출)
+    @Value("${checkmate.llm.group-max-size:20}")
+    private int groupMaxSize;
+
+    // llm: 모두 LLM / keyword: 모두 키워드 비교 / hybrid: 키워드 비교로 애매한 항목만 LLM
+    @Value("${checkmate.analysis.mode:llm}")
+    private String mode;
+
+    // hybrid 모드: 키워드 일치 비율이 이 값 이상이면 FULFILLED 로 바로 판정 (keyword 엔진만, tfidf 는 유사도 기준 사용)
+    @Value("${checkmate.analysis.hybrid.fulfilled-ratio:0.9}")
+    private double hybridFulfilledRatio;
+
+    // hybrid 모드: 키워드 일치 비율이 이 값 이하이면 NOT_FULFILLED 로 바로 판정
+    @Value("${checkmate.analysis.hybrid.not-fulfilled-ratio:0.1}")
+    private double hybridNotFulfilledRatio;
+
+    /**
+     * 파일 검증 + 텍스트 추출 + 요구사항 분리까지 끝낸 분석 입력
+     * (제출문은 페이지 시작 위치와 함께 전달해서 검색 단계 결과에 페이지 번호를 남김)
+     */
+    public record PreparedAnalysis(List<Requirement> requirements, ParsedDocument submission) {
+    }
 
     public List<EvaluationResult> evaluate(MultipartFile requirements, MultipartFile submission) {
 
+        PreparedAnalysis prepared = prepare(requirements, submission);
+
+        return evaluate(prepared.requirements(), prepared.submission(), r -> { });
+    }
+
+    /**
+     * LLM 평가 전 단계 (검증 → 파싱 → 요구사항 분리)
+     * 스트리밍처럼 평가를 다른 스레드에서 진행할 때, 요청 스레드에서 먼저 호출해 입력 오류를 400으로 돌려줌
+     */
+    public PreparedAnalysis prepare(MultipartFile requirements, MultipartFile submission) {
+
         validationService.validateFile(requirements);
         validationService.validateFile(submission);
 
         String requirementText = parseService.extractText(requirements);
-        String submissionText = parseService.extractText(submission);
+        ParsedDocument submissionDocument = parseService.parse(submission);
+
+        List<Requirement> reqList = stageMetrics.time("extract-requirements",
+                () -> requirementService.extractRequirements(requirementText));
+
+        return new PreparedAnalysis(reqList, submissionDocument);
+    }
+
+    /**
+     * 요구사항 평가
+     *  - checkmate.analysis.mode 가 keyword/hybrid 면 키워드 비교를 먼저 수행해서
+     *    확실한 항목은 바로 판정하고 나머지만 LLM으로 평가
+     *  - 결과는 요구사항 번호 순으로 정렬
+     *  - 페이지 구분이 없는 텍스트로 평가 (결과에 페이지 번호 없음)
+     */
+    public List<EvaluationResult> evaluate(List<Requirement> reqList, String submissionText) {
+        return evaluate(reqList, new ParsedDocument(submissionText), r -> { });
+    }
 
-        List<Requirement> reqList = requirementService.extractRequirements(requirementText);
+    /**
+     * evaluate 와 같지만, 각 결과가 나오는 즉시 listener 에 전달 (완료 순서, 호출한 스레드에서 실행)
+     */
+    public List<EvaluationResult> evaluate(List<Requirement> reqList, ParsedDocument submission,
+                                           Consumer<EvaluationResult> listener) {
+        return collect(evaluateFlux(reqList, null, submission), listener);
+    }
+
+    /**
+     * 미리 등록해 둔 요구사항 목록으로 평가 (키워드 비교는 컴파일된 rubric 재사용)
+     */
+    public List<EvaluationResult> evaluate(RequirementSet set, ParsedDocument submission) {
+        return collect(evaluateFlux(set.getRequirements(), set.getRubric(), submission), r -> { });
+    }
+
+    /**
+     * 논블로킹 평가: 결과가 끝나는 순서대로 흘려보냄
+     * LLM 호출은 WebClient 응답을 그대로 이어받으므로 대기 중에 스레드를 붙잡지 않음
+     */
+    public Flux<EvaluationResult> evaluateFlux(List<Requirement> reqList, ParsedDocument submission) {
+        return evaluateFlux(reqList, null, submission);
+    }
 
+    /**
+     * 논블로킹 평가: 전체 결과 (요구사항 번호 순)
+     */
+    public Mono<List<EvaluationResult>> evaluateMono(List<Requirement> reqList, ParsedDocument submission) {
+        return evaluateFlux(reqList, null, submission).collectSortedList(BY_REQUIREMENT_ID);
+    }
+
+    /**
+     * 블로킹 호출 측(요청 스레드, 작업 스레드 등)에서 결과를 받아 listener 실행 후 번호 순 정렬
+     * listener 를 이벤트 루프 스레드가 아니라 호출한 스레드에서 실행하기 위해 toIterable 사용
+     */
+    private List<EvaluationResult> collect(Flux<EvaluationResult> flux, Consumer<EvaluationResult> listener) {
         List<EvaluationResult> results = new ArrayList<>();
+        for (EvaluationResult r : flux.toIterable()) {
+            listener.accept(r);
+            results.add(r);
+        }
+        results.sort(BY_REQUIREMENT_ID);
+        return results;
+    }
+
+    /**
+     * 전체 평가 시간은 evaluate 단계, 키워드 비교는 keyword 단계로 기록
+     */
+    private Flux<EvaluationResult> evaluateFlux(List<Requirement> reqList, KeywordRubric rubric,
+                                                ParsedDocument submission) {
+        return Flux.defer(() -> {
+            String submissionText = submission.getText();
+            Timer.Sample sample = stageMetrics.start();
+            List<EvaluationResult> decided = new ArrayList<>();
+            List<Requirement> llmTargets = reqList;
+
+            if (!"llm".equalsIgnoreCase(mode)) {
+                llmTargets = new ArrayList<>();
+                boolean keywordOnly = "keyword".equalsIgnoreCase(mode);
+
+                List<EvaluationResult> keywordResults = stageMetrics.time("keyword", () -> (rubric != null)
+                        ? compareService.evaluate(rubric, submissionText)
+                        : compareService.evaluateByKeywordMatch(reqList, submissionText));
+                for (int i = 0; i < reqList.size(); i++) {
+                    Requirement req = reqList.get(i);
+                    EvaluationResult r = keywordResults.get(i);
+
+                    if (keywordOnly || isDecisive(r)) {
+                        decided.add(keywordDecision(req, r, keywordOnly));
+                    } else {
+                        llmTargets.add(req);
+                    }
+                }
+            }
+
+            Map<Long, Long> parentIds = parentIds(reqList);
+            return Flux.concat(
+                            Flux.fromIterable(decided),
+                            evaluateWithLlm(llmBatches(llmTargets, parentIds), submission)
+                    )
+                    .doOnNext(r -> r.setParentRequirementId(parentIds.get(r.getRequirementId())))
+                    .doOnNext(stageMetrics::recordResult)
+                    .doOnComplete(() -> stageMetrics.stop(sample, "evaluate", StageMetrics.SUCCESS))
+                    .doOnError(e -> stageMetrics.stop(sample, "evaluate", StageMetrics.ERROR));
+        });
+    }
+
+    /**
+     * hybrid 모드에서 키워드 비교만으로 판정할 수 있는지
+     * 키워드가 없거나 일치 비율이 두 기준 사이(애매한 구간)면 LLM으로 넘김
+     * tfidf 엔진은 CompareService 가 유사도 기준으로 이미 판정했으므로 PARTIAL 만 LLM으로 넘김
+     */
+    private boolean isDecisive(EvaluationResult keywordResult) {
+        if (keywordResult.getTotalKeywordCount() == 0) {
+            return false;
+        }
+        if (compareService.isSimilarityEngine()) {
+            return !"PARTIAL".equals(keywordResult.getStatus());
+        }
+        double ratio = (double) keywordResult.getMatchedKeywordCount() / keywordResult.getTotalKeywordCount();
+        return ratio >= hybridFulfilledRatio || ratio <= hybridNotFulfilledRatio;
+    }
+
+    private EvaluationResult keywordDecision(Requirement req, EvaluationResult r, boolean keywordOnly) {
+        if (!keywordOnly && !compareService.isSimilarityEngine()) {
+            // hybrid 에서 바로 판정하는 것은 양 끝 구간뿐이므로 FULFILLED / NOT_FULFILLED 둘 중 하나
+            // (tfidf 는 CompareService 판정을 그대로 사용)
+            double ratio = (double) r.getMatchedKeywordCount() / r.getTotalKeywordCount();
+            boolean fulfilled = ratio >= hybridFulfilledRatio;
+            r.setStatus(fulfilled ? "FULFILLED" : "NOT_FULFILLED");
+            r.setScore(fulfilled ? 1.0 : 0.0);
+        }
+
+        r.setRequirementText(req.getRawText());
+        if (compareService.isSimilarityEngine()) {
+            r.setEvidence("제출문에서 가장 비슷한 문장에 요구사항 n-gram " + r.getTotalKeywordCount() + "개 중 "
+                    + r.getMatchedKeywordCount() + "개가 포함되어 있어 유사도 비교로 판정했습니다.");
+        } else {
+            r.setEvidence("요구사항 키워드 " + r.getTotalKeywordCount() + "개 중 "
+                    + r.getMatchedKeywordCount() + "개가 제출문에 포함되어 있어 키워드 비교로 판정했습니다.");
+        }
+        r.setReason(r.getEvidence());
+        r.setDecidedBy("KEYWORD");
+        return r;
+    }
 
+    private static Map<Long, Long> parentIds(List<Requirement> reqList) {
+        Map<Long, Long> parentIds = new HashMap<>();
         for (Requirement req : reqList) {
-            EvaluationResult r = llmService.evaluateRequirement(req.getRawText(), submissionText);
-            r.setRequirementId(req.getId());
-            results.add(r);
+            parentIds.put(req.getId(), req.getParentId());
+        }
+        return parentIds;
+    }
+
+    /**
+     * LLM 호출 단위로 나누기
+     *  - 기본: checkmate.llm.batch-size 개씩
+     *  - group-by-parent: 최상위 항목별로 (상위 항목 + 모든 하위 항목), group-max-size 를 넘으면 나눔
+     *    (hybrid 에서 상위 항목이 키워드로 먼저 판정됐어도 같은 최상위 항목 아래끼리 묶음)
+     *  - 묶음은 호출 단위일 뿐 맥락 전달이 아님: 상위 항목이 키워드로 판정됐거나 나눈 다른 묶음에 들어가면
+     *    하위 항목은 상위 내용 없이 평가됨 (결과의 parentRequirementId 는 묶음과 관계없이 항상 채움)
+     */
+    private List<List<Requirement>> llmBatches(List<Requirement> targets, Map<Long, Long> parentIds) {
+        if (!groupByParent) {
+            return partition(targets, Math.max(1, batchSize));
+        }
+
+        Map<Long, List<Requirement>> groups = new LinkedHashMap<>();
+        for (Requirement req : targets) {
+            groups.computeIfAbsent(rootId(req.getId(), parentIds), k -> new ArrayList<>()).add(req);
+        }
+
+        List<List<Requirement>> batches = new ArrayList<>();
+        for (List<Requirement> group : groups.values()) {
+            batches.addAll(partition(group, Math.max(1, groupMaxSize)));
+        }
+        return batches;
+    }
+
+    private static Long rootId(Long id, Map<Long, Long> parentIds) {
+        Long root = id;
+        Long parent = parentIds.get(root);
+        while (parent != null) {
+            root = parent;
+            parent = parentIds.get(root);
+        }
+        return root;
+    }
+
+    /**
+     * 요구사항들을 동시에 평가
+     *  - 요구사항 묶음(llmBatches) 하나를 한 번의 호출로 평가
+     *  - 검색 단계가 켜져 있으면 제출문 전체 대신 배치와 관련된 청크만 전달 (결과에 청크 / 페이지 번호 기록)
+     *  - 분석 1건에서 동시에 진행하는 호출 수는 checkmate.llm.max-concurrency 로 제한
+     *  - 한 호출이 실패해도 나머지 결과는 그대로 반환 (실패 항목은 ERROR 상태)
+     */
+    private Flux<EvaluationResult> evaluateWithLlm(List<List<Requirement>> batches, ParsedDocument submission) {
+
+        if (batches.isEmpty()) {
+            return Flux.empty();
         }
 
+        ChunkIndex index = retrievalService.isEnabled() ? retrievalService.index(submission) : null;
+
+        return Flux.fromIterable(batches)
+                .flatMap(batch -> evaluateBatch(batch, submission, index)
+                                .onErrorResume(e -> Mono.just(failedResults(batch, e))),
+                        Math.max(1, maxConcurrency))
+                .flatMapIterable(batchResults -> batchResults);
+    }
+
+    private Mono<List<EvaluationResult>> evaluateBatch(List<Requirement> batch, ParsedDocument submission,
+                                                       ChunkIndex index) {
+        return Mono.defer(() -> {
+            String context = submission.getText();
+            List<Integer> chunkIds = null;
+            List<Integer> pages = null;
+
+            if (index != null) {
+                RetrievalService.RetrievedContext retrieved = retrievalService.select(index, submission, batch);
+                context = retrieved.text();
+                chunkIds = retrieved.chunkIds();
+                pages = retrieved.pages();
+            }
+
+            // 한 건짜리 묶음도 Requirement 그대로 넘겨서 미리 계산한 프롬프트용 텍스트를 사용 (단건 프롬프트로 평가)
+            Mono<List<EvaluationResult>> call = llmService.evaluateRequirementsAsync(batch, context);
+
+            List<Integer> selectedChunks = chunkIds;
+            List<Integer> selectedPages = pages;
+            return call.map(results -> {
+                for (EvaluationResult r : results) {
+                    r.setContextChunkIds(selectedChunks);
+                    r.setContextPages(selectedPages);
+                    r.setDecidedBy("LLM");
+                }
+                return results;
+            });
+        });
+    }
+
+    private static List<List<Requirement>> partition(List<Requirement> reqList, int size) {
+        List<List<Requirement>> batches = new ArrayList<>();
+        for (int i = 0; i < reqList.size(); i += size) {
+            batches.add(reqList.subList(i, Math.min(i + size, reqList.size())));
+        }
+        return batches;
+    }
+
+    private List<EvaluationResult> failedResults(List<Requirement> batch, Throwable e) {
+        List<EvaluationResult> results = new ArrayList<>();
+        for (Requirement req : batch) {
+            results.add(failedResult(req, e));
+        }
         return results;
     }
+
+    /**
+     * LLM 호출이 실패한 요구사항의 결과
+     * 분석 전체를 실패시키지 않고 ERROR 상태로 표시만 함
+     */
+    private EvaluationResult failedResult(Requirement req, Throwable e) {
+        Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+
+        EvaluationResult r = new EvaluationResult();
+        r.setRequirementId(req.getId());
+        r.setRequirementText(req.getRawText());
+        r.setStatus("ERROR");
+        r.setScore(0.0);
+        r.setEvidence("평가 중 오류가 발생했습니다: " + cause.getMessage());
+        r.setReason(r.getEvidence());
+        r.setDecidedBy("LLM");
+        return r;
+    }
 }
@@ -0,0 +1,63 @@
+package com.gmbbd.checkMate.service;
+
+import com.gmbbd.checkMate.model.SummaryResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 끝난 분석 결과(SummaryResponse) 보관
+ *  보고서를 받을 때 분석을 다시 돌리지 않고(LLM 재호출 없이) 보관된 결과로 렌더링
+ *  - 최대 max-entries 개, 넘으면 가장 오래 조회되지 않은 결과부터 제거
+ *  - ttl-minutes 가 지난 결과는 조회 시 제거
+ */
+@Component
+public class AnalysisStore {
+
+    @Value("${checkmate.analyses.max-entries:200}")
+    private int maxEntries;
+
+    @Value("${checkmate.analyses.ttl-minutes:1440}")
+    private long ttlMinutes;
+
+    private record Stored(long createdAt, SummaryResponse summary) {
+    }
+
+    private final Map<String, Stored> analyses = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Stored> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    /**
+     * 새 id 를 붙여 보관하고 같은 객체를 그대로 반환 (summary.analysisId 에 id 기록)
+     */
+    public SummaryResponse save(SummaryResponse summary) {
+        String id = UUID.randomUUID().toString();
+        summary.setAnalysisId(id);
+
+        synchronized (analyses) {
+            analyses.put(id, new Stored(System.currentTimeMillis(), summary));
+        }
+        return summary;
+    }
+
+    public Optional<SummaryResponse> find(String id) {
+        synchronized (analyses) {
+            Stored stored = analyses.get(id);
+            if (stored == null) {
+                return Optional.empty();
+            }
+            if (ttlMinutes > 0 && System.currentTimeMillis() - stored.createdAt() > ttlMinutes * 60_000L) {
+                analyses.remove(id);
+                return Optional.empty();
+            }
+            return Optional.of(stored.summary());
+        }
+    }
+}
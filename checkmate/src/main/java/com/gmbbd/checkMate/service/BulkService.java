@@ -0,0 +1,246 @@
+package com.gmbbd.checkMate.service;
+
+import com.gmbbd.checkMate.exception.ApiException;
+import com.gmbbd.checkMate.model.BulkResponse;
+import com.gmbbd.checkMate.model.EvaluationResult;
+import com.gmbbd.checkMate.model.Requirement;
+import com.gmbbd.checkMate.model.RequirementSet;
+import com.gmbbd.checkMate.model.SummaryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 요구사항 하나 + 제출물 ZIP 일괄 채점
+ *  압축 해제(요청 스레드) → 파싱(bulkParseExecutor) → 평가(bulkEvaluationExecutor) 파이프라인
+ *  - ZIP 항목은 읽는 즉시 파이프라인에 넣으므로 N+1 번째 압축 해제/파싱이 N 번째 LLM 평가와 겹쳐서 진행
+ *  - 동시에 진행 중인 제출물 수는 pipeline-depth 로 제한 (압축 해제 중인 항목 포함,
+ *    ZIP 전체를 먼저 풀어 두지 않으므로 메모리에는 최대 pipeline-depth 개 제출물만 올라감)
+ *  - 제출물 하나가 실패해도 나머지는 계속 진행
+ *  - ZIP 자체가 제한(항목 수, 제출물 수, 전체 용량)을 넘으면 400, 아직 시작하지 않은 단계는 건너뜀
+ */
+@Service
+@RequiredArgsConstructor
+public class BulkService {
+
+    private static final long MAX_ENTRY_BYTES = 10 * 1024 * 1024; // ValidationService 와 같은 10MB
+
+    private final ParseService parseService;
+    private final AnalysisService analysisService;
+    private final ExecutorService bulkParseExecutor;        // ExecutorConfig
+    private final ExecutorService bulkEvaluationExecutor;   // ExecutorConfig
+
+    @Value("${checkmate.bulk.max-files:300}")
+    private int maxFiles;
+
+    // 폴더/건너뛴 파일까지 포함한 ZIP 항목 수 상한
+    @Value("${checkmate.bulk.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${checkmate.bulk.max-total-bytes:104857600}")
+    private long maxTotalBytes;
+
+    @Value("${checkmate.bulk.pipeline-depth:8}")
+    private int pipelineDepth;
+
+    public BulkResponse grade(RequirementSet set, MultipartFile zip) {
+        long startedAt = System.currentTimeMillis();
+
+        if (zip == null || zip.isEmpty()) {
+            throw new ApiException("업로드된 파일이 비어있습니다.");
+        }
+        String zipName = zip.getOriginalFilename();
+        if (zipName == null || !zipName.toLowerCase().endsWith(".zip")) {
+            throw new ApiException("제출물은 zip 파일로 업로드해주세요.");
+        }
+
+        List<String> skipped = new ArrayList<>();
+        Semaphore inFlight = new Semaphore(Math.max(1, pipelineDepth));
+        AtomicBoolean aborted = new AtomicBoolean();
+        List<CompletableFuture<BulkResponse.Submission>> futures = new ArrayList<>();
+
+        try {
+            unzip(zip, skipped, inFlight, (name, content) -> futures.add(
+                    CompletableFuture
+                            .supplyAsync(() -> parseService.parse(name, checkNotAborted(aborted, content)),
+                                    bulkParseExecutor)
+                            .thenApplyAsync(document -> SummaryResponse.from(
+                                            analysisService.evaluate(set, checkNotAborted(aborted, document))),
+                                    bulkEvaluationExecutor)
+                            .handle((summary, e) -> {
+                                inFlight.release();
+                                return (e == null)
+                                        ? new BulkResponse.Submission(name, summary, null)
+                                        : new BulkResponse.Submission(name, null, errorMessage(e));
+                            })
+            ));
+        } catch (RuntimeException e) {
+            // 이미 넣은 제출물 중 아직 시작하지 않은 단계는 건너뜀
+            aborted.set(true);
+            throw e;
+        }
+
+        if (futures.isEmpty()) {
+            throw new ApiException("ZIP 파일 안에 채점할 제출물(pdf/docx/txt)이 없습니다.");
+        }
+
+        List<BulkResponse.Submission> submissions = new ArrayList<>();
+        for (CompletableFuture<BulkResponse.Submission> f : futures) {
+            submissions.add(f.join());
+        }
+
+        long elapsedMs = Math.max(1, System.currentTimeMillis() - startedAt);
+        double perMinute = submissions.size() * 60_000.0 / elapsedMs;
+
+        return new BulkResponse(submissions, aggregate(set, submissions), skipped, elapsedMs, perMinute);
+    }
+
+    private static <T> T checkNotAborted(AtomicBoolean aborted, T value) {
+        if (aborted.get()) {
+            throw new CancellationException("일괄 채점이 중단되었습니다.");
+        }
+        return value;
+    }
+
+    /**
+     * ZIP 을 앞에서부터 읽으며 제출물 하나를 다 읽을 때마다 submit 에 전달 (메모리에서만, 항목 수/크기 제한)
+     *  - 항목을 읽기 전에 inFlight 허가를 받음 (반납은 submit 으로 넣은 작업이 끝날 때)
+     *  - 폴더, 숨김 파일(__MACOSX 등)은 무시하고 지원하지 않는 확장자는 skipped 에 기록
+     */
+    private void unzip(MultipartFile zip, List<String> skipped, Semaphore inFlight,
+                       BiConsumer<String, byte[]> submit) {
+        int entries = 0;
+        int files = 0;
+        long totalBytes = 0;
+
+        try (ZipInputStream zis = new ZipInputStream(zip.getInputStream())) {
+            ZipEntry entry;
+            while ((entry = zis.getNextEntry()) != null) {
+                if (++entries > maxEntries) {
+                    throw new ApiException("ZIP 안의 항목(폴더 포함)은 " + maxEntries + "개 이하만 지원합니다.");
+                }
+
+                String name = entry.getName();
+                String baseName = name.substring(name.lastIndexOf('/') + 1);
+
+                if (entry.isDirectory() || baseName.isEmpty()
+                        || baseName.startsWith(".") || name.startsWith("__MACOSX/")) {
+                    continue;
+                }
+
+                String lower = baseName.toLowerCase();
+                if (!(lower.endsWith(".pdf") || lower.endsWith(".docx") || lower.endsWith(".txt"))) {
+                    skipped.add(name);
+                    continue;
+                }
+
+                if (++files > maxFiles) {
+                    throw new ApiException("ZIP 안의 제출물은 " + maxFiles + "개 이하만 지원합니다.");
+                }
+
+                inFlight.acquireUninterruptibly();
+                byte[] content;
+                try {
+                    content = readEntry(zis, name, maxTotalBytes - totalBytes);
+                } catch (IOException | RuntimeException e) {
+                    inFlight.release();
+                    throw e;
+                }
+                totalBytes += content.length;
+
+                submit.accept(name, content);
+            }
+        } catch (IOException e) {
+            throw new ApiException("ZIP 파일 처리 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 항목 하나를 읽되 10MB 나 남은 전체 용량을 넘으면 중단 (압축 폭탄 방지: 헤더의 크기 값은 믿지 않음)
+     */
+    private byte[] readEntry(InputStream is, String name, long remainingTotal) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int n;
+        while ((n = is.read(buffer)) > 0) {
+            out.write(buffer, 0, n);
+            if (out.size() > MAX_ENTRY_BYTES) {
+                throw new ApiException("파일 용량은 10MB 이하만 지원합니다. (" + name + ")");
+            }
+            if (out.size() > remainingTotal) {
+                throw new ApiException("ZIP 압축 해제 후 전체 용량이 너무 큽니다.");
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private BulkResponse.Cohort aggregate(RequirementSet set, List<BulkResponse.Submission> submissions) {
+        Map<Long, BulkResponse.RequirementStat> stats = new LinkedHashMap<>();
+        for (Requirement req : set.getRequirements()) {
+            stats.put(req.getId(), new BulkResponse.RequirementStat(req.getId(), req.getRawText(), 0, 0, 0, 0));
+        }
+
+        int succeeded = 0;
+        double scoreSum = 0;
+        double min = Double.MAX_VALUE;
+        double max = 0;
+
+        for (BulkResponse.Submission s : submissions) {
+            if (s.getSummary() == null) continue;
+
+            succeeded++;
+            double score = s.getSummary().getScore();
+            scoreSum += score;
+            min = Math.min(min, score);
+            max = Math.max(max, score);
+
+            for (EvaluationResult r : s.getSummary().getDetails()) {
+                BulkResponse.RequirementStat stat = stats.get(r.getRequirementId());
+                if (stat == null) continue;
+
+                switch (r.getStatus()) {
+                    case "FULFILLED" -> stat.setFulfilled(stat.getFulfilled() + 1);
+                    case "PARTIAL" -> stat.setPartial(stat.getPartial() + 1);
+                    case "ERROR" -> stat.setError(stat.getError() + 1);
+                    default -> stat.setNotFulfilled(stat.getNotFulfilled() + 1);
+                }
+            }
+        }
+
+        return new BulkResponse.Cohort(
+                submissions.size(),
+                succeeded,
+                submissions.size() - succeeded,
+                succeeded == 0 ? 0 : scoreSum / succeeded,
+                succeeded == 0 ? 0 : min,
+                max,
+                new ArrayList<>(stats.values())
+        );
+    }
+
+    private String errorMessage(Throwable e) {
+        Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+        if (cause instanceof ApiException) {
+            return cause.getMessage();
+        }
+        return "분석 중 오류가 발생했습니다.";
+    }
+}
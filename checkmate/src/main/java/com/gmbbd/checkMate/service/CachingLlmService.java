@@ -0,0 +1,367 @@
+package com.gmbbd.checkMate.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gmbbd.checkMate.model.CacheStats;
+import com.gmbbd.checkMate.model.EvaluationResult;
+import com.gmbbd.checkMate.model.Requirement;
+import com.gmbbd.checkMate.util.TextNormalizer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LlmService 앞단 캐시
+ *  temperature 0 으로 호출하므로 같은 (요구사항, 제출문, 모델, 프롬프트 버전)이면 같은 결과로 보고 재사용
+ *  (프롬프트 버전 = PromptTemplateRegistry.version(), 템플릿 내용이 바뀌면 자동으로 바뀜)
+ *  - 키: 위 네 값을 정규화해서 SHA-256
+ *  - 용량(max-entries, LRU)과 TTL 로 제거
+ *  - checkmate.llm.cache.file 지정 시 파일로 저장해서 재시작 후에도 유지
+ */
+@Slf4j
+@Primary
+@Service
+@RequiredArgsConstructor
+public class CachingLlmService implements LlmService {
+
+    private final LlmServiceImpl delegate;
+    private final ObjectMapper objectMapper;
+    private final PromptTemplateRegistry promptTemplates;
+
+    @Value("${checkmate.llm.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${checkmate.llm.cache.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${checkmate.llm.cache.ttl-minutes:1440}")
+    private long ttlMinutes;
+
+    // 비어 있으면 메모리에만 저장
+    @Value("${checkmate.llm.cache.file:}")
+    private String cacheFile;
+
+    // 새 항목이 이만큼 쌓이면 파일에 저장
+    @Value("${checkmate.llm.cache.flush-every:20}")
+    private int flushEvery;
+
+    @Value("${openai.model:gpt-4o-mini}")
+    private String model;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final Object fileLock = new Object();
+
+    private Map<String, CachedEvaluation> entries;
+    private int unsavedPuts = 0;
+
+    // 같은 제출문 문자열이 요구사항 수만큼 반복해서 들어오므로 마지막 해시를 재사용
+    private volatile DocumentDigest lastDocument;
+
+    @PostConstruct
+    void init() {
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedEvaluation> eldest) {
+                if (size() > maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+        load();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        save();
+    }
+
+    @Override
+    public EvaluationResult evaluateRequirement(String requirementText, String documentText) {
+        if (!enabled) {
+            return delegate.evaluateRequirement(requirementText, documentText);
+        }
+
+        String key = cacheKey(normalizeText(requirementText), documentDigest(documentText));
+
+        EvaluationResult cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        EvaluationResult result = delegate.evaluateRequirement(requirementText, documentText);
+        put(key, result);
+        return result;
+    }
+
+    /**
+     * 캐시에 있는 항목은 바로 채우고, 없는 항목만 모아서 한 번에 위임
+     */
+    @Override
+    public List<EvaluationResult> evaluateRequirements(List<Requirement> requirements, String documentText) {
+        if (!enabled) {
+            return delegate.evaluateRequirements(requirements, documentText);
+        }
+
+        String docDigest = documentDigest(documentText);
+
+        EvaluationResult[] results = new EvaluationResult[requirements.size()];
+        List<Requirement> missing = new ArrayList<>();
+        List<Integer> missingIndexes = new ArrayList<>();
+
+        for (int i = 0; i < requirements.size(); i++) {
+            Requirement req = requirements.get(i);
+            EvaluationResult cached = get(cacheKey(req.getPromptText(), docDigest));
+            if (cached != null) {
+                cached.setRequirementId(req.getId());
+                results[i] = cached;
+            } else {
+                missing.add(req);
+                missingIndexes.add(i);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            List<EvaluationResult> fresh = delegate.evaluateRequirements(missing, documentText);
+            for (int j = 0; j < fresh.size(); j++) {
+                put(cacheKey(missing.get(j).getPromptText(), docDigest), fresh.get(j));
+                results[missingIndexes.get(j)] = fresh.get(j);
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    @Override
+    public Mono<EvaluationResult> evaluateRequirementAsync(String requirementText, String documentText) {
+        if (!enabled) {
+            return delegate.evaluateRequirementAsync(requirementText, documentText);
+        }
+
+        return Mono.defer(() -> {
+            String key = cacheKey(normalizeText(requirementText), documentDigest(documentText));
+
+            EvaluationResult cached = get(key);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            return delegate.evaluateRequirementAsync(requirementText, documentText)
+                    .doOnNext(result -> put(key, result));
+        });
+    }
+
+    /**
+     * evaluateRequirements 와 같은 방식 (캐시에 없는 항목만 한 번에 위임)
+     */
+    @Override
+    public Mono<List<EvaluationResult>> evaluateRequirementsAsync(List<Requirement> requirements, String documentText) {
+        if (!enabled) {
+            return delegate.evaluateRequirementsAsync(requirements, documentText);
+        }
+
+        return Mono.defer(() -> {
+            String docDigest = documentDigest(documentText);
+
+            EvaluationResult[] results = new EvaluationResult[requirements.size()];
+            List<Requirement> missing = new ArrayList<>();
+            List<Integer> missingIndexes = new ArrayList<>();
+
+            for (int i = 0; i < requirements.size(); i++) {
+                Requirement req = requirements.get(i);
+                EvaluationResult cached = get(cacheKey(req.getPromptText(), docDigest));
+                if (cached != null) {
+                    cached.setRequirementId(req.getId());
+                    results[i] = cached;
+                } else {
+                    missing.add(req);
+                    missingIndexes.add(i);
+                }
+            }
+
+            if (missing.isEmpty()) {
+                return Mono.just(Arrays.asList(results));
+            }
+
+            return delegate.evaluateRequirementsAsync(missing, documentText)
+                    .map(fresh -> {
+                        for (int j = 0; j < fresh.size(); j++) {
+                            put(cacheKey(missing.get(j).getPromptText(), docDigest), fresh.get(j));
+                            results[missingIndexes.get(j)] = fresh.get(j);
+                        }
+                        return Arrays.asList(results);
+                    });
+        });
+    }
+
+    public CacheStats stats() {
+        synchronized (this) {
+            return new CacheStats(entries.size(), hits.get(), misses.get(), evictions.get(), null);
+        }
+    }
+
+    private synchronized EvaluationResult get(String key) {
+        CachedEvaluation entry = entries.get(key);
+
+        if (entry != null && isExpired(entry)) {
+            entries.remove(key);
+            evictions.incrementAndGet();
+            entry = null;
+        }
+
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        hits.incrementAndGet();
+
+        // 캐시에서 꺼낸 결과는 토큰을 쓰지 않았으므로 사용량 제거
+        EvaluationResult result = entry.getResult().copy();
+        result.setUsage(null);
+        return result;
+    }
+
+    private void put(String key, EvaluationResult result) {
+        boolean flush;
+        synchronized (this) {
+            entries.put(key, new CachedEvaluation(System.currentTimeMillis(), result.copy()));
+            flush = ++unsavedPuts >= flushEvery;
+        }
+        if (flush) {
+            // 논블로킹 경로(이벤트 루프 스레드)에서도 호출되므로 파일 저장은 별도 스레드에서
+            Schedulers.boundedElastic().schedule(this::save);
+        }
+    }
+
+    private boolean isExpired(CachedEvaluation entry) {
+        return ttlMinutes > 0
+                && System.currentTimeMillis() - entry.getCreatedAt() > ttlMinutes * 60_000L;
+    }
+
+    /**
+     * normalizedRequirement 는 공백 정리를 끝낸 요구사항 (Requirement.getPromptText 와 같은 기준)
+     */
+    private String cacheKey(String normalizedRequirement, String docDigest) {
+        return sha256(String.join("\u0000",
+                normalizedRequirement, docDigest, model, promptTemplates.version()));
+    }
+
+    private String documentDigest(String documentText) {
+        DocumentDigest last = lastDocument;
+        if (last != null && last.text() == documentText) {
+            return last.digest();
+        }
+        String digest = sha256(normalizeText(documentText));
+        lastDocument = new DocumentDigest(documentText, digest);
+        return digest;
+    }
+
+    /**
+     * LlmServiceImpl 과 같은 기준(공백 정리)으로 정규화
+     * 프롬프트에 들어가는 텍스트가 같으면 같은 키
+     */
+    private String normalizeText(String text) {
+        return TextNormalizer.collapseWhitespace(text);
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private void load() {
+        if (cacheFile == null || cacheFile.isBlank()) {
+            return;
+        }
+
+        Path path = Path.of(cacheFile);
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        try {
+            Map<String, CachedEvaluation> stored = objectMapper.readValue(
+                    path.toFile(), new TypeReference<LinkedHashMap<String, CachedEvaluation>>() {});
+
+            synchronized (this) {
+                stored.forEach((key, entry) -> {
+                    if (!isExpired(entry)) {
+                        entries.put(key, entry);
+                    }
+                });
+            }
+            log.info("LLM 평가 캐시 {}건을 {}에서 불러왔습니다.", entries.size(), path);
+
+        } catch (IOException e) {
+            log.warn("LLM 평가 캐시 파일을 읽지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    private void save() {
+        if (cacheFile == null || cacheFile.isBlank()) {
+            return;
+        }
+
+        Map<String, CachedEvaluation> snapshot;
+        synchronized (this) {
+            snapshot = new LinkedHashMap<>(entries);
+            unsavedPuts = 0;
+        }
+
+        Path path = Path.of(cacheFile).toAbsolutePath();
+        synchronized (fileLock) {
+            try {
+                Files.createDirectories(path.getParent());
+                Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+                objectMapper.writeValue(tmp.toFile(), snapshot);
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            } catch (IOException e) {
+                log.warn("LLM 평가 캐시 파일을 저장하지 못했습니다: {}", e.getMessage());
+            }
+        }
+    }
+
+    private record DocumentDigest(String text, String digest) {
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class CachedEvaluation {
+        private long createdAt;
+        private EvaluationResult result;
+    }
+}
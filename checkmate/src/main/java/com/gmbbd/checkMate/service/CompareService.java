@@ -2,44 +2,57 @@ package com.gmbbd.checkMate.service;
 
 import com.gmbbd.checkMate.model.EvaluationResult;
 import com.gmbbd.checkMate.model.Requirement;
+import com.gmbbd.checkMate.util.KeywordMatcher;
+import com.gmbbd.checkMate.util.KoreanTokenizer;
+import com.gmbbd.checkMate.util.NgramSimilarity;
+import com.gmbbd.checkMate.util.TextNormalizer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 /**
  * CompareService
  *  요구사항 텍스트와 과제 텍스트를 키워드 단위로 단순 비교해서 FULFILLED / PARTIAL / NOT_FULFILLED 상태 판정
  *  CompareServiceTest에 맞춰 점수/상태 규칙을 맞춤
+ *  checkmate.compare.engine=tfidf 면 글자 n-gram TF-IDF 유사도로 판정 (조사/어미 변화, 바꿔 쓴 표현도 어느 정도 인식)
  */
 @Service
 public class CompareService {
 
     private static final double FULFILLED_THRESHOLD = 0.6;
 
-    public List<EvaluationResult> evaluateByKeywordMatch(List<Requirement> requirements,
-                                                         String assignmentText) {
+    // keyword : 요구사항 단어가 제출문에 그대로 들어 있는지 / tfidf : NgramSimilarity
+    // (직접 생성한 경우처럼 값이 없으면 keyword)
+    @Value("${checkmate.compare.engine:keyword}")
+    private String engine;
 
-        List<EvaluationResult> results = new ArrayList<>();
+    // true 면 요구사항 키워드에서 조사/어미를 떼고 비교 (요구사항을 → 요구사항)
+    @Value("${checkmate.compare.strip-particles:false}")
+    private boolean stripParticles;
 
-        if (requirements == null || requirements.isEmpty()) {
-            return results;
-        }
+    private final KoreanTokenizer tokenizer = KoreanTokenizer.DEFAULT;
 
-        if (assignmentText == null) {
-            assignmentText = "";
-        }
-        String normalizedAssignment = normalize(assignmentText);
+    // 가장 비슷한 제출문 문장과의 코사인 유사도 기준
+    @Value("${checkmate.compare.tfidf.fulfilled-similarity:0.3}")
+    private double fulfilledSimilarity;
 
-        for (Requirement req : requirements) {
-            if (req == null) continue;
+    @Value("${checkmate.compare.tfidf.partial-similarity:0.1}")
+    private double partialSimilarity;
 
-            EvaluationResult r = compareRequirementInternal(req, normalizedAssignment);
-            results.add(r);
+    public List<EvaluationResult> evaluateByKeywordMatch(List<Requirement> requirements,
+                                                         String assignmentText) {
+
+        if (requirements == null || requirements.isEmpty()) {
+            return new ArrayList<>();
         }
 
-        return results;
+        return evaluate(compile(requirements), assignmentText);
     }
 
     /**
@@ -52,40 +65,137 @@ public class CompareService {
             return null;
         }
 
-        if (submissionText == null) {
-            submissionText = "";
+        return evaluate(compile(List.of(req)), submissionText).get(0);
+    }
+
+    public boolean isSimilarityEngine() {
+        return "tfidf".equalsIgnoreCase(engine);
+    }
+
+    /**
+     * 요구사항 전체의 키워드를 하나의 오토마톤으로 컴파일 (tfidf 엔진이면 n-gram 색인도 함께)
+     * 같은 요구사항 목록으로 여러 과제를 비교할 때는 한 번만 만들어 재사용
+     */
+    public KeywordRubric compile(List<Requirement> requirements) {
+
+        List<Requirement> targets = new ArrayList<>();
+        List<String> keywords = new ArrayList<>();
+        Map<String, Integer> keywordIndex = new HashMap<>();
+        List<int[]> keywordIds = new ArrayList<>();
+
+        for (Requirement req : requirements) {
+            if (req == null) continue;
+
+            // 요구사항 문장을 토큰(단어) 단위로 분해 (조사/접속사 등 불용어는 제외)
+            String text = req.getRawText() == null ? "" : req.getRawText();
+            IntBuffer ids = new IntBuffer();
+
+            tokenizer.tokenize(text, stripParticles, (start, end) -> {
+                String token = text.substring(start, end).toLowerCase(Locale.ROOT);
+                ids.add(keywordIndex.computeIfAbsent(token, t -> {
+                    keywords.add(t);
+                    return keywords.size() - 1;
+                }));
+            });
+
+            targets.add(req);
+            keywordIds.add(ids.toArray());
         }
 
-        String normalizedAssignment = normalize(submissionText);
+        NgramSimilarity similarity = null;
+        if (isSimilarityEngine()) {
+            similarity = new NgramSimilarity(targets.stream().map(Requirement::getRawText).toList());
+        }
 
-        return compareRequirementInternal(req, normalizedAssignment);
+        return new KeywordRubric(
+                targets,
+                keywordIds.toArray(new int[0][]),
+                new KeywordMatcher(keywords),
+                similarity
+        );
     }
 
     /**
-     * 내부 공통 로직
-     * 단일 Requirement에 대해 키워드 기반 비교를 수행하고 EvaluationResult 생성
+     * 컴파일된 요구사항 목록과 과제 텍스트 비교
+     * 과제 텍스트는 한 번만 정규화하고, 모든 키워드를 한 번의 스캔으로 찾음
      */
-    private EvaluationResult compareRequirementInternal(Requirement req, String normalizedAssignment) {
+    public List<EvaluationResult> evaluate(KeywordRubric rubric, String assignmentText) {
 
-        String normalizedReq = normalize(req.getRawText());
+        if (assignmentText == null) {
+            assignmentText = "";
+        }
+        if (rubric.getSimilarity() != null) {
+            return evaluateBySimilarity(rubric, assignmentText);
+        }
+        String normalizedAssignment = normalize(assignmentText);
+
+        boolean[] found = rubric.getMatcher().findAll(normalizedAssignment);
+
+        List<EvaluationResult> results = new ArrayList<>();
+        List<Requirement> requirements = rubric.getRequirements();
+
+        for (int i = 0; i < requirements.size(); i++) {
+            int[] ids = rubric.getKeywordIds()[i];
+
+            int matched = 0;         // 과제 텍스트에서 발견된 키워드 수
+            for (int id : ids) {
+                if (found[id]) {
+                    matched++;
+                }
+            }
+
+            results.add(toResult(requirements.get(i), matched, ids.length));
+        }
 
-        // 요구사항 문장을 토큰(단어) 단위로 분해
-        String[] tokens = normalizedReq.split("\\s+");
+        return results;
+    }
 
-        int totalKeywords = 0;   // 실제로 의미 있는 키워드 수
-        int matched = 0;         // 과제 텍스트에서 발견된 키워드 수
+    /**
+     * tfidf 엔진: 요구사항마다 가장 비슷한 제출문 문장과의 유사도로 판정
+     *  - matched/total 은 그 문장에 들어 있는 요구사항 n-gram 수 / 전체 n-gram 수
+     */
+    private List<EvaluationResult> evaluateBySimilarity(KeywordRubric rubric, String assignmentText) {
 
-        for (String token : tokens) {
-            if (token.isBlank()) continue;
-            if (isStopWord(token)) continue; // 조사/접속사 등은 제외
+        NgramSimilarity.Scores scores = rubric.getSimilarity().score(assignmentText);
 
-            totalKeywords++;
+        List<EvaluationResult> results = new ArrayList<>();
+        List<Requirement> requirements = rubric.getRequirements();
 
-            if (normalizedAssignment.contains(token)) {
-                matched++;
+        for (int i = 0; i < requirements.size(); i++) {
+            double similarity = scores.similarity()[i];
+            int total = scores.total()[i];
+
+            String status;
+            double score;
+            if (total > 0 && similarity >= fulfilledSimilarity) {
+                status = "FULFILLED";
+                score = 1.0;
+            } else if (total > 0 && similarity >= partialSimilarity && similarity > 0) {
+                status = "PARTIAL";
+                score = similarity;
+            } else {
+                status = "NOT_FULFILLED";
+                score = 0.0;
             }
+
+            EvaluationResult r = new EvaluationResult();
+            r.setRequirementId(requirements.get(i).getId());
+            r.setStatus(status);
+            r.setScore(score);
+            r.setMatchedKeywordCount(scores.matched()[i]);
+            r.setTotalKeywordCount(total);
+            results.add(r);
         }
 
+        return results;
+    }
+
+    /**
+     * 내부 공통 로직
+     * 매칭된 키워드 수로 상태/점수를 정하고 EvaluationResult 생성
+     */
+    private EvaluationResult toResult(Requirement req, int matched, int totalKeywords) {
+
         double score;
         String status;
 
@@ -125,22 +235,25 @@ public class CompareService {
      * 비교를 위해 텍스트 소문자 + 특수문자 제거 + 공백 정리
      */
     private String normalize(String text) {
-        if (text == null) return "";
-        return text
-                .replaceAll("[^\\p{IsAlphabetic}\\p{IsDigit}\\s]", " ") // 한글/영어/숫자/공백만 남김
-                .toLowerCase(Locale.ROOT)
-                .replaceAll("\\s+", " ")
-                .trim();
+        return TextNormalizer.normalizeForCompare(text); // 한글/영어/숫자만 남기고 공백 한 칸으로
     }
 
     /**
-     * 의미 없는 조사/접속사 등을 stop word로 정의
+     * 요구사항 하나의 키워드 번호 (중복 토큰도 그대로)
      */
-    private boolean isStopWord(String token) {
-        return List.of(
-                "을", "를", "은", "는", "이", "가",
-                "에", "에서", "및", "그리고", "또는",
-                "으로", "으로서", "으로써", "와", "과"
-        ).contains(token);
+    private static final class IntBuffer {
+        private int[] values = new int[8];
+        private int size;
+
+        void add(int v) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = v;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
     }
 }
@@ -0,0 +1,119 @@
+package com.gmbbd.checkMate.service;
+
+import com.gmbbd.checkMate.exception.ApiException;
+import com.gmbbd.checkMate.metrics.StageMetrics;
+import com.gmbbd.checkMate.model.AnalysisJob;
+import com.gmbbd.checkMate.model.ParsedDocument;
+import com.gmbbd.checkMate.model.Requirement;
+import com.gmbbd.checkMate.model.SummaryAccumulator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 비동기 분석 작업 관리
+ *  - 요청 스레드에서는 파일 검증 + 바이트 복사만 하고 바로 작업 id 반환
+ *  - 파싱 ~ LLM 평가는 analysisExecutor(스레드 수/대기열 제한)에서 실행
+ *    대기열이 가득 차면 RejectedExecutionException → 429
+ *  - 끝난 작업은 ttl-minutes 가 지나면 조회/등록 시 정리
+ */
+@Service
+@RequiredArgsConstructor
+public class JobService {
+
+    private final ValidationService validationService;
+    private final ParseService parseService;
+    private final RequirementService requirementService;
+    private final AnalysisService analysisService;
+    private final ThreadPoolTaskExecutor analysisExecutor;   // ExecutorConfig
+    private final StageMetrics stageMetrics;
+    private final AnalysisStore analysisStore;
+
+    @Value("${checkmate.jobs.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    private final Map<String, AnalysisJob> jobs = new ConcurrentHashMap<>();
+
+    public AnalysisJob submit(MultipartFile requirements, MultipartFile submission) {
+        purgeExpired();
+
+        validationService.validateFile(requirements);
+        validationService.validateFile(submission);
+
+        // 요청이 끝나면 업로드 임시 파일이 지워지므로 내용을 먼저 복사
+        String requirementsName = requirements.getOriginalFilename();
+        String submissionName = submission.getOriginalFilename();
+        byte[] requirementsBytes = readBytes(requirements);
+        byte[] submissionBytes = readBytes(submission);
+
+        AnalysisJob job = new AnalysisJob(UUID.randomUUID().toString());
+        jobs.put(job.getId(), job);
+
+        try {
+            analysisExecutor.execute(() -> run(job,
+                    requirementsName, requirementsBytes, submissionName, submissionBytes));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw e;
+        }
+
+        return job;
+    }
+
+    public Optional<AnalysisJob> find(String id) {
+        purgeExpired();
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    private void run(AnalysisJob job,
+                     String requirementsName, byte[] requirementsBytes,
+                     String submissionName, byte[] submissionBytes) {
+        try {
+            String requirementText = parseService.extractText(requirementsName, requirementsBytes);
+            ParsedDocument submission = parseService.parse(submissionName, submissionBytes);
+
+            List<Requirement> reqList = stageMetrics.time("extract-requirements",
+                    () -> requirementService.extractRequirements(requirementText));
+            job.start(reqList.size());
+
+            SummaryAccumulator summary = new SummaryAccumulator();
+            analysisService.evaluate(reqList, submission, r -> {
+                summary.add(r);
+                job.progress();
+            });
+
+            job.complete(analysisStore.save(summary.toResponse()));
+
+        } catch (ApiException e) {
+            job.fail(e.getMessage());
+        } catch (Exception e) {
+            job.fail("분석 중 오류가 발생했습니다.");
+        }
+    }
+
+    private byte[] readBytes(MultipartFile file) {
+        try {
+            return file.getBytes();
+        } catch (IOException e) {
+            throw new ApiException("업로드 파일 처리 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    private void purgeExpired() {
+        Instant threshold = Instant.now().minus(Duration.ofMinutes(ttlMinutes));
+        jobs.values().removeIf(job ->
+                job.getFinishedAt() != null && job.getFinishedAt().isBefore(threshold));
+    }
+}
@@ -0,0 +1,46 @@
+package com.gmbbd.checkMate.service;
+
+import com.gmbbd.checkMate.model.Requirement;
+import com.gmbbd.checkMate.util.KeywordMatcher;
+import com.gmbbd.checkMate.util.NgramSimilarity;
+
+import java.util.List;
+
+/**
+ * CompareService.compile() 로 만든 "키워드 비교용으로 컴파일된 요구사항 목록"
+ *  - requirements : 비교 대상 요구사항 (null 제외)
+ *  - keywordIds   : 요구사항별 키워드 번호 (중복 토큰도 그대로 유지 → 기존 점수 계산과 동일)
+ *  - matcher      : 전체 요구사항의 서로 다른 키워드를 하나로 묶은 Aho-Corasick 오토마톤
+ *  - similarity   : checkmate.compare.engine=tfidf 일 때 n-gram 유사도 색인 (keyword 엔진이면 null)
+ */
+public final class KeywordRubric {
+
+    private final List<Requirement> requirements;
+    private final int[][] keywordIds;
+    private final KeywordMatcher matcher;
+    private final NgramSimilarity similarity;
+
+    KeywordRubric(List<Requirement> requirements, int[][] keywordIds, KeywordMatcher matcher,
+                  NgramSimilarity similarity) {
+        this.requirements = requirements;
+        this.keywordIds = keywordIds;
+        this.matcher = matcher;
+        this.similarity = similarity;
+    }
+
+    public List<Requirement> getRequirements() {
+        return requirements;
+    }
+
+    int[][] getKeywordIds() {
+        return keywordIds;
+    }
+
+    KeywordMatcher getMatcher() {
+        return matcher;
+    }
+
+    NgramSimilarity getSimilarity() {
+        return similarity;
+    }
+}
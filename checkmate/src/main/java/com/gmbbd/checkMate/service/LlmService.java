@@ -1,9 +1,48 @@
 package com.gmbbd.checkMate.service;
 
 import com.gmbbd.checkMate.model.EvaluationResult;
+import com.gmbbd.checkMate.model.Requirement;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
 
 public interface LlmService {
 
     EvaluationResult evaluateRequirement(String requirementText, String documentText);
 
+    /**
+     * 여러 요구사항을 한 번에 평가
+     * 기본 구현은 요구사항마다 evaluateRequirement를 호출하고,
+     * 구현체는 제출문을 한 번만 보내는 배치 프롬프트로 대체할 수 있음
+     * 반환 순서는 입력 요구사항 순서와 같음
+     */
+    default List<EvaluationResult> evaluateRequirements(List<Requirement> requirements, String documentText) {
+        List<EvaluationResult> results = new ArrayList<>();
+        for (Requirement req : requirements) {
+            EvaluationResult r = evaluateRequirement(req.getRawText(), documentText);
+            r.setRequirementId(req.getId());
+            results.add(r);
+        }
+        return results;
+    }
+
+    /**
+     * evaluateRequirement 의 논블로킹 버전
+     * 기본 구현은 블로킹 호출을 boundedElastic 스레드에서 실행, 구현체는 WebClient 호출을 그대로 이어서 대체
+     */
+    default Mono<EvaluationResult> evaluateRequirementAsync(String requirementText, String documentText) {
+        return Mono.fromCallable(() -> evaluateRequirement(requirementText, documentText))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * evaluateRequirements 의 논블로킹 버전 (반환 순서는 입력 요구사항 순서와 같음)
+     */
+    default Mono<List<EvaluationResult>> evaluateRequirementsAsync(List<Requirement> requirements, String documentText) {
+        return Mono.fromCallable(() -> evaluateRequirements(requirements, documentText))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
 }
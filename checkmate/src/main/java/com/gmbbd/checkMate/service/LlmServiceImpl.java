@@ -2,37 +2,296 @@ package com.gmbbd.checkMate.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gmbbd.checkMate.metrics.StageMetrics;
 import com.gmbbd.checkMate.model.EvaluationResult;
+import com.gmbbd.checkMate.model.Requirement;
+import com.gmbbd.checkMate.model.TokenUsage;
+import com.gmbbd.checkMate.util.TextNormalizer;
+import com.gmbbd.checkMate.util.TextWindows;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class LlmServiceImpl implements LlmService {
 
+    private static final Set<String> VALID_STATUSES = Set.of("FULFILLED", "PARTIAL", "NOT_FULFILLED");
+
+    // 구간별 판정을 합칠 때 우선순위 (한 구간에서라도 충족하면 충족)
+    private static final List<String> STATUS_RANK = List.of("NOT_FULFILLED", "PARTIAL", "FULFILLED");
+
+    // 제출문 구간 크기를 정할 때 남겨 두는 토큰 수
+    private static final int WINDOW_SAFETY_TOKENS = 32;
+
     private final WebClient openAiWebClient;   // OpenAIConfig
     private final ObjectMapper objectMapper;   // 스프링 Bean
+    private final PromptTemplateRegistry promptTemplates;
+    private final TokenEstimator tokenEstimator;
+    private final StageMetrics stageMetrics;
 
     @Value("${openai.model:gpt-4o-mini}")
     private String model;
 
+    // 호출 1회의 입력 토큰 상한, 넘으면 제출문을 구간으로 나눠서 평가
+    @Value("${checkmate.llm.max-prompt-tokens:100000}")
+    private int maxPromptTokens;
+
+    // 나눈 구간끼리 겹치는 토큰 수
+    @Value("${checkmate.llm.window-overlap-tokens:200}")
+    private int windowOverlapTokens;
+
+    // 같은 제출문(같은 String 객체)이 요구사항 / 배치 수만큼 반복해서 들어오므로 마지막 정규화 결과를 재사용
+    private volatile NormalizedSubmission lastSubmission;
+
     @Override
     public EvaluationResult evaluateRequirement(String requirementText, String documentText) {
-        // 프롬프트 생성
-        String prompt = buildPrompt(requirementText, documentText);
+        return evaluateRequirementAsync(requirementText, documentText).block();
+    }
+
+    @Override
+    public List<EvaluationResult> evaluateRequirements(List<Requirement> requirements, String documentText) {
+        return evaluateRequirementsAsync(requirements, documentText).block();
+    }
+
+    /**
+     * 프롬프트 생성 → 토큰 예산 확인 → OpenAI 요청 → JSON 파싱 (스레드를 붙잡지 않음)
+     *  - 예산(max-prompt-tokens)을 넘으면 제출문을 구간으로 나눠 차례로 평가하고 판정을 합침
+     *    (어느 구간에서 FULFILLED 가 나오면 남은 구간은 호출하지 않음)
+     */
+    @Override
+    public Mono<EvaluationResult> evaluateRequirementAsync(String requirementText, String documentText) {
+        return evaluateRequirementAsync(requirementText, normalizeText(requirementText), documentText);
+    }
+
+    /**
+     * requirementPrompt 는 공백 정리까지 끝낸 요구사항 (Requirement.getPromptText, 결과에는 requirementText 기록)
+     */
+    private Mono<EvaluationResult> evaluateRequirementAsync(String requirementText, String requirementPrompt,
+                                                            String documentText) {
+        return Mono.defer(() -> {
+            String submission = normalizedSubmission(documentText);
+            String prompt = buildPrompt(requirementPrompt, submission);
+            int estimated = tokenEstimator.countPrompt(prompt);
+
+            if (estimated <= maxPromptTokens) {
+                return completeSingle(requirementText, prompt, estimated);
+            }
+
+            // 구간은 예산 안에 들어가도록 잘랐으므로 다시 예산 확인/분할하지 않고 바로 호출
+            List<String> windows = splitSubmission(submission, buildPrompt(requirementPrompt, ""));
+            return Flux.fromIterable(windows)
+                    .concatMap(window -> {
+                        String windowPrompt = buildPrompt(requirementPrompt, normalizeText(window));
+                        return completeSingle(requirementText, windowPrompt, tokenEstimator.countPrompt(windowPrompt));
+                    })
+                    .takeUntil(r -> "FULFILLED".equals(r.getStatus()))
+                    .collectList()
+                    .map(results -> mergeWindowResults(results, windows.size()));
+        });
+    }
+
+    private Mono<EvaluationResult> completeSingle(String requirementText, String prompt, int estimated) {
+        return requestCompletion(prompt, "single")
+                .map(rawResponse -> {
+                    EvaluationResult result = parseEvaluationResult(rawResponse, requirementText, null);
+                    result.setUsage(accountUsage(result.getUsage(), estimated));
+                    return result;
+                });
+    }
+
+    /**
+     * 여러 요구사항을 하나의 프롬프트로 평가 (제출문은 한 번만 전송)
+     *  - 응답은 requirementId를 가진 JSON 배열
+     *  - 배열에서 빠졌거나 형식이 잘못된 항목만 모아 더 작은 배치로 한 번 다시 요청하고,
+     *    그래도 빠진 항목만 단건 호출로 요청
+     */
+    @Override
+    public Mono<List<EvaluationResult>> evaluateRequirementsAsync(List<Requirement> requirements, String documentText) {
+        if (requirements.size() <= 1) {
+            return Flux.fromIterable(requirements)
+                    .concatMap(req -> evaluateRequirementAsync(req.getRawText(), req.getPromptText(), documentText)
+                            .doOnNext(r -> r.setRequirementId(req.getId())))
+                    .collectList();
+        }
+
+        return Mono.defer(() -> {
+            String prompt = buildBatchPrompt(requirements, normalizedSubmission(documentText));
+            int estimated = tokenEstimator.countPrompt(prompt);
+
+            if (estimated > maxPromptTokens) {
+                return evaluateOversizedBatch(requirements, documentText);
+            }
+            return completeBatch(requirements, documentText, prompt, estimated, true);
+        });
+    }
+
+    /**
+     * 배치 호출 1회 (예산 확인은 호출 측에서 끝난 상태)
+     * 빠진 항목 재요청은 documentText 가 구간이면 그 구간 그대로 (원래 배치보다 프롬프트가 짧아서 예산 안)
+     *  - retryAsBatch 이고 빠진 항목이 2개 이상이면 빠진 항목만으로 배치 호출 1회
+     *  - 그 밖에는(재요청 배치에서도 빠진 항목 포함) 단건 호출
+     */
+    private Mono<List<EvaluationResult>> completeBatch(List<Requirement> requirements, String documentText,
+                                                       String prompt, int estimated, boolean retryAsBatch) {
+        return requestCompletion(prompt, "batch")
+                .flatMap(rawResponse -> {
+                    Map<Long, EvaluationResult> parsed = parseBatchResults(extractContent(rawResponse), requirements);
+
+                    // 배치 호출 사용량은 배치 응답에서 나온 결과들에 나눠서 기록
+                    TokenUsage usage = accountUsage(parseUsage(rawResponse), estimated);
+                    List<Requirement> missing = new ArrayList<>();
+                    int i = 0;
+                    for (Requirement req : requirements) {
+                        EvaluationResult r = parsed.get(req.getId());
+                        if (r != null) {
+                            r.setUsage(usage.share(i++, parsed.size()));
+                        } else {
+                            missing.add(req);
+                        }
+                    }
+
+                    if (missing.isEmpty()) {
+                        return Mono.just(ordered(requirements, parsed));
+                    }
+
+                    Mono<List<EvaluationResult>> retried;
+                    if (retryAsBatch && missing.size() > 1) {
+                        String retryPrompt = buildBatchPrompt(missing, normalizedSubmission(documentText));
+                        retried = completeBatch(missing, documentText, retryPrompt,
+                                tokenEstimator.countPrompt(retryPrompt), false);
+                    } else {
+                        retried = Flux.fromIterable(missing)
+                                .flatMapSequential(req -> evaluateRequirementAsync(req.getRawText(), req.getPromptText(), documentText)
+                                        .doOnNext(r -> r.setRequirementId(req.getId())))
+                                .collectList();
+                    }
 
-        // OpenAI 요청
+                    return retried.map(results -> {
+                        for (EvaluationResult r : results) {
+                            parsed.put(r.getRequirementId(), r);
+                        }
+                        return ordered(requirements, parsed);
+                    });
+                });
+    }
+
+    /**
+     * requirementId → 결과를 요구사항 순서대로
+     */
+    private static List<EvaluationResult> ordered(List<Requirement> requirements, Map<Long, EvaluationResult> results) {
+        List<EvaluationResult> list = new ArrayList<>();
+        for (Requirement req : requirements) {
+            list.add(results.get(req.getId()));
+        }
+        return list;
+    }
+
+    /**
+     * 배치 프롬프트가 토큰 예산을 넘는 경우
+     *  - 요구사항 목록만으로도 예산을 넘으면 요구사항을 반으로 나눠서 각각 평가
+     *  - 아니면 제출문을 구간으로 나눠 구간마다 배치 평가하고 요구사항별로 판정을 합침
+     */
+    private Mono<List<EvaluationResult>> evaluateOversizedBatch(List<Requirement> requirements, String documentText) {
+        String withoutSubmission = buildBatchPrompt(requirements, "");
+        if (tokenEstimator.countPrompt(withoutSubmission) >= maxPromptTokens) {
+            int half = requirements.size() / 2;
+            return Flux.concat(
+                            evaluateRequirementsAsync(requirements.subList(0, half), documentText),
+                            evaluateRequirementsAsync(requirements.subList(half, requirements.size()), documentText))
+                    .flatMapIterable(results -> results)
+                    .collectList();
+        }
+
+        List<String> windows = splitSubmission(normalizedSubmission(documentText), withoutSubmission);
+        return Flux.fromIterable(windows)
+                .concatMap(window -> {
+                    String windowPrompt = buildBatchPrompt(requirements, normalizeText(window));
+                    return completeBatch(requirements, window, windowPrompt, tokenEstimator.countPrompt(windowPrompt), true);
+                })
+                .collectList()
+                .map(perWindow -> {
+                    List<EvaluationResult> merged = new ArrayList<>();
+                    for (int i = 0; i < requirements.size(); i++) {
+                        List<EvaluationResult> forRequirement = new ArrayList<>();
+                        for (List<EvaluationResult> results : perWindow) {
+                            forRequirement.add(results.get(i));
+                        }
+                        EvaluationResult r = mergeWindowResults(forRequirement, windows.size());
+                        r.setRequirementId(requirements.get(i).getId());
+                        merged.add(r);
+                    }
+                    return merged;
+                });
+    }
+
+    /**
+     * 공백 정리한 제출문을 (예산 - 제출문 외 프롬프트 토큰 - 여유분) 안에 들어가는 구간으로 나눔
+     * BPE 토큰 수는 더해지지 않으므로(자리표시자 주변 개행과 구간 양 끝 토큰이 다르게 합쳐짐) 여유분을 둠
+     */
+    private List<String> splitSubmission(String normalizedSubmission, String promptWithoutSubmission) {
+        int available = maxPromptTokens - tokenEstimator.countPrompt(promptWithoutSubmission) - WINDOW_SAFETY_TOKENS;
+        if (available <= 0) {
+            throw new IllegalStateException("지침과 요구사항만으로 프롬프트 토큰 예산(" + maxPromptTokens + ")을 넘습니다.");
+        }
+        return TextWindows.split(normalizedSubmission, available, windowOverlapTokens, tokenEstimator::count);
+    }
+
+    /**
+     * 구간별 판정 합치기
+     *  - 가장 높은 판정(FULFILLED > PARTIAL > NOT_FULFILLED)을 낸 구간의 결과를 대표로 사용
+     *  - 토큰 사용량은 호출한 모든 구간의 합
+     */
+    static EvaluationResult mergeWindowResults(List<EvaluationResult> results, int windowCount) {
+        EvaluationResult best = null;
+        int bestIndex = 0;
+        TokenUsage usage = new TokenUsage();
+
+        for (int i = 0; i < results.size(); i++) {
+            EvaluationResult r = results.get(i);
+            usage.add(r.getUsage());
+            if (best == null
+                    || STATUS_RANK.indexOf(r.getStatus()) > STATUS_RANK.indexOf(best.getStatus())
+                    || (r.getStatus().equals(best.getStatus()) && r.getScore() > best.getScore())) {
+                best = r;
+                bestIndex = i;
+            }
+        }
+
+        EvaluationResult merged = best.copy();
+        String note = "[제출문 " + windowCount + "개 구간 중 " + (bestIndex + 1) + "번째 구간 기준] ";
+        merged.setEvidence(note + merged.getEvidence());
+        merged.setReason(note + merged.getReason());
+        merged.setUsage(usage);
+        return merged;
+    }
+
+    /**
+     * 응답 usage 에 호출 전 추정치를 붙이고 토큰 지표에 누적
+     */
+    private TokenUsage accountUsage(TokenUsage usage, int estimated) {
+        TokenUsage u = (usage == null) ? new TokenUsage() : usage;
+        u.setEstimatedPromptTokens(estimated);
+        stageMetrics.recordTokens(u);
+        return u;
+    }
+
+    /**
+     * chat/completions 호출 후 응답 JSON 문자열 그대로 반환
+     */
+    private Mono<String> requestCompletion(String prompt, String kind) {
         Map<String, Object> requestBody = Map.of(
                 "model", model,
                 "temperature", 0,
@@ -44,57 +303,133 @@ public class LlmServiceImpl implements LlmService {
                 )
         );
 
-        // WebClient 호출
-        String rawResponse = openAiWebClient.post()
-                .uri("/chat/completions")
-                .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(String.class)
-                .onErrorResume(e ->
-                        Mono.error(new RuntimeException("OpenAI API 호출 실패: " + e.getMessage(), e))
-                )
-                .block();
+        // WebClient 호출 (속도 조절 / 재시도 / 서킷 브레이커는 OpenAIConfig 의 필터에서 처리)
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return openAiWebClient.post()
+                    .uri("/chat/completions")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .doOnSuccess(body -> stageMetrics.recordLlmCall(kind, StageMetrics.SUCCESS, System.nanoTime() - startedAt))
+                    .onErrorResume(e -> {
+                        stageMetrics.recordLlmCall(kind, StageMetrics.ERROR, System.nanoTime() - startedAt);
+                        stageMetrics.recordError("llm", e);
+                        return Mono.error(new RuntimeException("OpenAI API 호출 실패: " + e.getMessage(), e));
+                    });
+        });
+    }
 
-        // JSON 파싱 → EvaluationResult
-        return parseEvaluationResult(rawResponse, requirementText, null);
+    /**
+     * 프롬프트 = 고정 지침 + 제출문 + 요구사항 순서 (둘 다 공백 정리를 끝낸 텍스트)
+     * 같은 제출문의 요구사항들을 연달아 평가할 때 앞부분(지침 + 제출문)이 같아서
+     * OpenAI 프롬프트 캐시(앞부분 재사용)가 적용됨
+     */
+    private String buildPrompt(String normalizedReq, String normalizedSubmission) {
+        return promptTemplates.get(PromptTemplateRegistry.SINGLE).render(Map.of(
+                "submission", normalizedSubmission,
+                "requirement", normalizedReq
+        ));
     }
 
-    private String buildPrompt(String req, String submission) {
-        String safeReq = (req == null) ? "" : req.trim();
-        String safeSubmission = (submission == null) ? "" : submission;
+    /**
+     * 배치 프롬프트: 요구사항 목록(번호 + 내용)과 제출문을 한 번에 전달
+     * 상위 항목이 같은 배치에 있으면 "상위 requirementId" 로 관계 표시 (group-by-parent 묶음)
+     * 배치에 없는 상위 항목은 표시하지 않음 (평가 대상이 아닌 번호를 가리키지 않도록)
+     * submission 은 공백 정리를 끝낸 텍스트
+     */
+    private String buildBatchPrompt(List<Requirement> requirements, String normalizedSubmission) {
+        Set<Long> ids = new HashSet<>();
+        for (Requirement req : requirements) {
+            ids.add(req.getId());
+        }
 
-        // 공백 정리
-        String normalizedReq = normalizeText(safeReq);
-        String normalizedSubmission = normalizeText(safeSubmission);
+        StringBuilder reqList = new StringBuilder();
+        for (Requirement req : requirements) {
+            reqList.append("- requirementId: ").append(req.getId()).append("\n");
+            if (req.getParentId() != null && ids.contains(req.getParentId())) {
+                reqList.append("  상위 requirementId: ").append(req.getParentId()).append("\n");
+            }
+            reqList.append("  내용: ").append(req.getPromptText()).append("\n");
+        }
+
+        return promptTemplates.get(PromptTemplateRegistry.BATCH).render(Map.of(
+                "submission", normalizedSubmission,
+                "requirements", reqList.toString().trim()
+        ));
+    }
+
+    /**
+     * 공백/개행/탭을 하나의 공백으로 줄이고 양 끝 공백 제거
+     * 내용 X, 표현만 정리
+     */
+    private String normalizeText(String text) {
+        return TextNormalizer.collapseWhitespace(text);
+    }
+
+    /**
+     * 제출문 공백 정리 (직전과 같은 String 객체면 이전 결과 재사용)
+     */
+    private String normalizedSubmission(String documentText) {
+        NormalizedSubmission last = lastSubmission;
+        if (last != null && last.text() == documentText) {
+            return last.normalized();
+        }
+        String normalized = normalizeText(documentText);
+        lastSubmission = new NormalizedSubmission(documentText, normalized);
+        return normalized;
+    }
+
+    private record NormalizedSubmission(String text, String normalized) {
+    }
+
+    /**
+     * ChatCompletion 응답에서 message.content 추출
+     */
+    private String extractContent(String rawResponse) {
+        if (rawResponse == null || rawResponse.isBlank()) {
+            throw new IllegalStateException("OpenAI 응답이 비어 있습니다.");
+        }
 
         try {
-            ClassPathResource resource =
-                    new ClassPathResource("prompts/llm_prompt.txt");
+            JsonNode root = objectMapper.readTree(rawResponse);
 
-            try (InputStream is = resource.getInputStream()) {
-                String template = new String(is.readAllBytes(), StandardCharsets.UTF_8);
-                // 프롬프트의 %s 두 군데에 순서대로 요구사항, 문서내용 채우기
-                return template.formatted(normalizedReq, normalizedSubmission);
+            String content = root
+                    .path("choices")
+                    .path(0)
+                    .path("message")
+                    .path("content")
+                    .asText("");
+
+            if (content.isBlank()) {
+                throw new IllegalStateException("OpenAI 응답에서 content를 찾을 수 없습니다.");
             }
+            return content;
+
         } catch (IOException e) {
-            throw new IllegalStateException(
-                    "프롬프트 템플릿(prompts/llm_prompt.txt)을 읽는 데 실패했습니다.", e
-            );
+            throw new RuntimeException("OpenAI 응답 파싱 실패: " + e.getMessage(), e);
         }
     }
 
     /**
-     * 공백/개행/탭을 하나의 공백으로 줄이고 양 끝 공백 제거
-     * 내용 X, 표현만 정리
+     * 응답의 usage 블록 (없으면 null)
+     * cachedTokens = usage.prompt_tokens_details.cached_tokens
      */
-    private String normalizeText(String text) {
-        if (text == null) {
-            return "";
+    private TokenUsage parseUsage(String rawResponse) {
+        try {
+            JsonNode usage = objectMapper.readTree(rawResponse).path("usage");
+            if (usage.isMissingNode() || usage.isNull()) {
+                return null;
+            }
+            return new TokenUsage(
+                    usage.path("prompt_tokens").asInt(0),
+                    usage.path("prompt_tokens_details").path("cached_tokens").asInt(0),
+                    usage.path("completion_tokens").asInt(0)
+            );
+        } catch (IOException e) {
+            return null;
         }
-        return text
-                .replaceAll("\\s+", " ")
-                .trim();
     }
 
     /**
@@ -113,48 +448,89 @@ public class LlmServiceImpl implements LlmService {
     private EvaluationResult parseEvaluationResult(String rawResponse,
                                                    String requirementText,
                                                    Long requirementId) {
-        if (rawResponse == null || rawResponse.isBlank()) {
-            throw new IllegalStateException("OpenAI 응답이 비어 있습니다.");
-        }
+        String content = extractContent(rawResponse);
 
         try {
-            JsonNode root = objectMapper.readTree(rawResponse);
+            JsonNode resultJson = objectMapper.readTree(content);
+            EvaluationResult result = toEvaluationResult(resultJson, requirementText, requirementId);
+            result.setUsage(parseUsage(rawResponse));
+            return result;
 
-            // ChatCompletion 구조에서 content 추출
-            JsonNode contentNode = root
-                    .path("choices")
-                    .path(0)
-                    .path("message")
-                    .path("content");
+        } catch (IOException e) {
+            throw new RuntimeException("OpenAI 응답 파싱 실패: " + e.getMessage(), e);
+        }
+    }
 
-            String content = contentNode.asText("");
+    /**
+     * 배치 응답(content)을 requirementId → EvaluationResult 로 변환
+     *  - [ {...}, {...} ] 또는 { "results": [ ... ] } 형식 허용
+     *  - 요청하지 않은 id, 잘못된 status 를 가진 항목은 버림 (호출 측에서 재요청)
+     *  - content 자체가 JSON이 아니면 빈 Map 반환
+     */
+    private Map<Long, EvaluationResult> parseBatchResults(String content, List<Requirement> requirements) {
+        Map<Long, Requirement> requested = new HashMap<>();
+        for (Requirement req : requirements) {
+            requested.put(req.getId(), req);
+        }
 
-            if (content.isBlank()) {
-                throw new IllegalStateException("OpenAI 응답에서 content를 찾을 수 없습니다.");
+        Map<Long, EvaluationResult> results = new HashMap<>();
+
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(stripCodeFence(content));
+        } catch (IOException e) {
+            return results;
+        }
+
+        JsonNode items = root.isArray() ? root : root.path("results");
+        if (!items.isArray()) {
+            return results;
+        }
+
+        for (JsonNode item : items) {
+            Requirement req = requested.get(item.path("requirementId").asLong(-1));
+            if (req == null || !VALID_STATUSES.contains(item.path("status").asText())) {
+                continue;
             }
+            results.put(req.getId(), toEvaluationResult(item, req.getRawText(), req.getId()));
+        }
 
-            JsonNode resultJson = objectMapper.readTree(content);
+        return results;
+    }
 
-            String status = resultJson.path("status").asText("NOT_FULFILLED");
-            double score = resultJson.path("score").asDouble(0.0);
-            int matchedKeywordCount = resultJson.path("matchedKeywordCount").asInt(0);
-            int totalKeywordCount = resultJson.path("totalKeywordCount").asInt(0);
-            String evidence = resultJson.path("evidence").asText("");
-            String reason = resultJson.path("reason").asText(evidence); // reason이 없으면 evidence로 대체
-
-            return new EvaluationResult(
-                    requirementId,          // 현재 구조로는 항상 null
-                    requirementText,
-                    status,
-                    score,
-                    matchedKeywordCount,
-                    totalKeywordCount,
-                    evidence,
-                    reason
-            );
+    private EvaluationResult toEvaluationResult(JsonNode resultJson, String requirementText, Long requirementId) {
+        String status = resultJson.path("status").asText("NOT_FULFILLED");
+        double score = resultJson.path("score").asDouble(0.0);
+        int matchedKeywordCount = resultJson.path("matchedKeywordCount").asInt(0);
+        int totalKeywordCount = resultJson.path("totalKeywordCount").asInt(0);
+        String evidence = resultJson.path("evidence").asText("");
+        String reason = resultJson.path("reason").asText(evidence); // reason이 없으면 evidence로 대체
 
-        } catch (IOException e) {
-            throw new RuntimeException("OpenAI 응답 파싱 실패: " + e.getMessage(), e);
+        return new EvaluationResult(
+                requirementId,          // 단건 호출에서는 null (AnalysisService에서 채움)
+                requirementText,
+                status,
+                score,
+                matchedKeywordCount,
+                totalKeywordCount,
+                evidence,
+                reason
+        );
+    }
+
+    /**
+     * ```json ... ``` 로 감싸진 응답이면 펜스를 제거
+     */
+    private String stripCodeFence(String content) {
+        String trimmed = content.trim();
+        if (!trimmed.startsWith("```")) {
+            return trimmed;
+        }
+        int firstNewline = trimmed.indexOf('\n');
+        int lastFence = trimmed.lastIndexOf("```");
+        if (firstNewline < 0 || lastFence <= firstNewline) {
+            return trimmed;
         }
+        return trimmed.substring(firstNewline + 1, lastFence).trim();
     }
 }
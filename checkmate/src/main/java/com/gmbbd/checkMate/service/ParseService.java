@@ -1,55 +1,230 @@
 package com.gmbbd.checkMate.service;
 
 import com.gmbbd.checkMate.exception.ApiException;
+import com.gmbbd.checkMate.metrics.StageMetrics;
+import com.gmbbd.checkMate.model.ParsedDocument;
 import com.gmbbd.checkMate.util.TextCleaner;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
 import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 public class ParseService {
 
+    // 파싱/정제 로직이 바뀌면 올려서 ParsedTextCache 의 이전 결과를 무효화
+    private static final String PARSER_VERSION = "2";
+
     private final TextCleaner cleaner;
+    private final ParsedTextCache cache;
+    private final ForkJoinPool pdfExtractionPool;   // ExecutorConfig
+    private final StageMetrics stageMetrics;
+
+    // 페이지 수가 이 값 이상인 PDF 만 여러 스레드로 나눠서 추출
+    @Value("${checkmate.parse.pdf.parallel-min-pages:32}")
+    private int parallelMinPages;
+
+    // 작업 스레드가 한 번에 가져가는 페이지 수 (다 끝나면 남은 구간을 다시 가져감)
+    @Value("${checkmate.parse.pdf.pages-per-task:16}")
+    private int pagesPerTask;
+
+    // 문서 1건을 동시에 추출하는 최대 스레드 수 (스레드마다 문서를 한 번씩 읽으므로 메모리도 이 배수까지)
+    @Value("${checkmate.parse.pdf.max-workers:4}")
+    private int maxWorkers;
 
-    public ParseService(TextCleaner cleaner) {
+    public ParseService(TextCleaner cleaner, ParsedTextCache cache, ForkJoinPool pdfExtractionPool,
+                        StageMetrics stageMetrics) {
         this.cleaner = cleaner;
+        this.cache = cache;
+        this.pdfExtractionPool = pdfExtractionPool;
+        this.stageMetrics = stageMetrics;
     }
 
     /**
-     * MultipartFile → InputStream 기반 파싱 (절대 temp 파일 만들지 않음)
+     * MultipartFile → 메모리 기반 파싱 (절대 temp 파일 만들지 않음)
      */
     public String extractText(MultipartFile multipartFile) {
+        return parse(multipartFile).getText();
+    }
+
+    /**
+     * 이미 메모리에 읽어 둔 파일 내용 파싱
+     * (비동기 작업처럼 요청이 끝난 뒤 파싱하는 경우 MultipartFile 을 그대로 쓸 수 없으므로)
+     */
+    public String extractText(String fileName, byte[] content) {
+        return parse(fileName, content).getText();
+    }
+
+    public ParsedDocument parse(MultipartFile multipartFile) {
         try {
-            String name = multipartFile.getOriginalFilename().toLowerCase();
+            return parse(multipartFile.getOriginalFilename(), multipartFile.getBytes());
+        } catch (IOException e) {
+            throw new ApiException("업로드 파일 처리 중 오류 발생: " + e.getMessage());
+        }
+    }
 
-            InputStream is = multipartFile.getInputStream();
+    /**
+     * 텍스트 + 페이지 시작 위치 추출
+     * 같은 내용의 파일은 ParsedTextCache 에서 바로 반환
+     * (parse 단계 시간 / 문서 크기 지표는 실제로 파싱한 경우만 기록)
+     */
+    public ParsedDocument parse(String fileName, byte[] content) {
+        if (!cache.isEnabled()) {
+            return parseAndRecord(fileName, content);
+        }
+
+        String key = cache.key(content, PARSER_VERSION, fileType(fileName));
+        ParsedDocument cached = cache.get(key, content.length);
+        if (cached != null) {
+            return cached;
+        }
+
+        ParsedDocument document = parseAndRecord(fileName, content);
+        cache.put(key, document);
+        return document;
+    }
+
+    private ParsedDocument parseAndRecord(String fileName, byte[] content) {
+        ParsedDocument document = stageMetrics.time("parse", () -> parseContent(fileName, content));
+        stageMetrics.recordDocument(fileType(fileName), content.length, document.getText().length());
+        return document;
+    }
+
+    private String fileType(String fileName) {
+        String name = (fileName == null) ? "" : fileName.toLowerCase();
+        int dot = name.lastIndexOf('.');
+        return dot < 0 ? "" : name.substring(dot + 1);
+    }
+
+    private ParsedDocument parseContent(String fileName, byte[] content) {
+        try {
+            String name = fileName.toLowerCase();
 
             if (name.endsWith(".pdf")) {
-                return cleaner.clean(parsePdf(is));
+                return joinPages(parsePdf(content));
             } else if (name.endsWith(".docx")) {
-                return cleaner.clean(parseDocx(is));
+                return singlePage(parseDocx(new ByteArrayInputStream(content)));
             } else if (name.endsWith(".txt")) {
-                return cleaner.clean(parseTxt(is));
+                return singlePage(parseTxt(new ByteArrayInputStream(content)));
             } else {
                 throw new ApiException("지원하지 않는 파일 형식입니다. (pdf/docx/txt)");
             }
 
+        } catch (ApiException e) {
+            throw e;
         } catch (Exception e) {
             throw new ApiException("업로드 파일 처리 중 오류 발생: " + e.getMessage());
         }
     }
 
-    // PDF 파싱 (PDFBox)
-    private String parsePdf(InputStream inputStream) throws IOException {
-        try (PDDocument pdf = PDDocument.load(inputStream)) {
-            PDFTextStripper stripper = new PDFTextStripper();
-            return stripper.getText(pdf);
+    private ParsedDocument singlePage(String raw) {
+        return new ParsedDocument(cleaner.clean(raw));
+    }
+
+    /**
+     * 페이지별로 정제한 텍스트를 순서대로 이어 붙이고 각 페이지의 시작 위치 기록
+     * (내용이 없는 페이지는 다음 페이지와 같은 위치)
+     */
+    private ParsedDocument joinPages(String[] pages) {
+        StringBuilder sb = new StringBuilder();
+        int[] offsets = new int[pages.length];
+
+        for (int i = 0; i < pages.length; i++) {
+            String page = cleaner.clean(pages[i]);
+            if (!page.isEmpty() && sb.length() > 0) {
+                sb.append('\n');
+            }
+            offsets[i] = sb.length();
+            sb.append(page);
+        }
+        return new ParsedDocument(sb.toString(), offsets);
+    }
+
+    /**
+     * PDF 파싱 (PDFBox) → 페이지별 원문
+     *  - parallel-min-pages 이상이면 pdfExtractionPool 에서 최대 max-workers 개 스레드로 동시에 추출
+     *  - PDDocument 는 스레드 안전하지 않으므로 스레드마다 문서를 한 번만 읽고,
+     *    pages-per-task 페이지씩 남은 구간을 가져가며 처리
+     *    (현재 스레드도 페이지 수를 세느라 이미 읽은 문서로 함께 처리)
+     *  - 한 스레드가 실패하면 나머지는 남은 구간을 더 가져가지 않고, 대기 중인 작업은 취소
+     */
+    private String[] parsePdf(byte[] content) throws IOException, InterruptedException, ExecutionException {
+        try (PDDocument pdf = PDDocument.load(content)) {
+            int pageCount = pdf.getNumberOfPages();
+            String[] pages = new String[pageCount];
+
+            int rangeSize = Math.max(1, pagesPerTask);
+            int workers = Math.min(Math.min(pdfExtractionPool.getParallelism(), Math.max(1, maxWorkers)),
+                    (pageCount + rangeSize - 1) / rangeSize);
+            if (pageCount < parallelMinPages || workers <= 1) {
+                extractPages(pdf, pages, 1, pageCount);
+                return pages;
+            }
+
+            AtomicInteger nextPage = new AtomicInteger(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 1; i < workers; i++) {
+                futures.add(pdfExtractionPool.submit(() -> {
+                    if (nextPage.get() > pageCount) {
+                        return null;   // 시작하기 전에 다른 스레드가 모두 처리했거나 실패함
+                    }
+                    try (PDDocument copy = PDDocument.load(content)) {
+                        extractRanges(copy, pages, nextPage, rangeSize);
+                    } catch (Exception e) {
+                        nextPage.set(pageCount + 1);
+                        throw e;
+                    }
+                    return null;
+                }));
+            }
+
+            try {
+                extractRanges(pdf, pages, nextPage, rangeSize);
+                for (Future<?> f : futures) {
+                    f.get();
+                }
+            } catch (Exception e) {
+                nextPage.set(pageCount + 1);
+                futures.forEach(f -> f.cancel(true));
+                throw e;
+            }
+            return pages;
+        }
+    }
+
+    /**
+     * 남은 페이지가 없을 때까지 rangeSize 페이지씩 가져가서 추출
+     */
+    private void extractRanges(PDDocument pdf, String[] pages, AtomicInteger nextPage, int rangeSize)
+            throws IOException {
+        int from;
+        while ((from = nextPage.getAndAdd(rangeSize)) <= pages.length) {
+            extractPages(pdf, pages, from, Math.min(from + rangeSize - 1, pages.length));
+        }
+    }
+
+    /**
+     * [from, to] 페이지를 한 페이지씩 추출해서 pages[페이지 - 1] 에 저장
+     */
+    private void extractPages(PDDocument pdf, String[] pages, int from, int to) throws IOException {
+        PDFTextStripper stripper = new PDFTextStripper();
+        for (int page = from; page <= to; page++) {
+            stripper.setStartPage(page);
+            stripper.setEndPage(page);
+            pages[page - 1] = stripper.getText(pdf);
         }
     }
 
@@ -0,0 +1,94 @@
+package com.gmbbd.checkMate.service;
+
+import com.gmbbd.checkMate.model.CacheStats;
+import com.gmbbd.checkMate.model.ParsedDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 업로드 파일 내용(SHA-256) → 추출/정제된 문서(텍스트 + 페이지 위치) 캐시
+ *  같은 요구사항 PDF를 반 전체가 올리는 경우 PDFBox/정제 과정을 건너뜀
+ *  - 저장된 텍스트 총 글자 수(max-chars) 기준 LRU 제거
+ *  - savedBytes: 캐시 적중으로 파싱하지 않은 업로드 바이트 합계
+ */
+@Component
+public class ParsedTextCache {
+
+    @Value("${checkmate.parse.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${checkmate.parse.cache.max-chars:20000000}")
+    private long maxChars;
+
+    private final Map<String, ParsedDocument> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalChars = 0;
+
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+    private long savedBytes = 0;
+
+    /**
+     * 파일 내용 + 파서 버전 + 파일 종류로 캐시 키 생성
+     */
+    public String key(byte[] content, String parserVersion, String fileType) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(content)) + ":" + parserVersion + ":" + fileType;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시에 있으면 문서, 없으면 null
+     */
+    public synchronized ParsedDocument get(String key, long sourceBytes) {
+        ParsedDocument document = entries.get(key);
+        if (document == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        savedBytes += sourceBytes;
+        return document;
+    }
+
+    public synchronized void put(String key, ParsedDocument document) {
+        // 한 항목이 전체 한도보다 크면 저장하지 않음
+        int length = document.getText().length();
+        if (length > maxChars) {
+            return;
+        }
+
+        ParsedDocument previous = entries.put(key, document);
+        if (previous != null) {
+            totalChars -= previous.getText().length();
+        }
+        totalChars += length;
+
+        // 가장 오래 사용되지 않은 항목부터 제거
+        Iterator<Map.Entry<String, ParsedDocument>> it = entries.entrySet().iterator();
+        while (totalChars > maxChars && it.hasNext()) {
+            Map.Entry<String, ParsedDocument> eldest = it.next();
+            totalChars -= eldest.getValue().getText().length();
+            it.remove();
+            evictions++;
+        }
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(entries.size(), hits, misses, evictions, savedBytes);
+    }
+}
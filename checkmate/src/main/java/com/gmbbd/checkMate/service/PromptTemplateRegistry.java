@@ -0,0 +1,161 @@
+package com.gmbbd.checkMate.service;
+
+import com.gmbbd.checkMate.util.PromptTemplate;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LLM 프롬프트 템플릿 저장소
+ *  - 시작할 때 한 번만 읽어서 PromptTemplate 으로 나눠 둠 (요청마다 파일을 읽지 않음)
+ *  - version(): prompt-version 설정값 + 템플릿 내용 해시 → 템플릿이 바뀌면 LLM 캐시 키도 바뀜
+ *  - checkmate.llm.prompt.dir 지정 시 그 폴더의 파일을 우선 사용,
+ *    hot-reload 가 켜져 있으면 파일 수정 시각이 바뀔 때 다시 읽음
+ */
+@Slf4j
+@Component
+public class PromptTemplateRegistry {
+
+    public static final String SINGLE = "llm_prompt";
+    public static final String BATCH = "llm_batch_prompt";
+
+    private static final List<String> NAMES = List.of(SINGLE, BATCH);
+    private static final long RELOAD_CHECK_INTERVAL_MS = 1000;
+
+    @Value("${checkmate.llm.prompt-version:1}")
+    private String promptVersion;
+
+    // 비어 있으면 classpath:prompts 만 사용
+    @Value("${checkmate.llm.prompt.dir:}")
+    private String dir;
+
+    @Value("${checkmate.llm.prompt.hot-reload:false}")
+    private boolean hotReload;
+
+    private volatile Map<String, PromptTemplate> templates;
+    private volatile String version;
+
+    private volatile long lastCheckedAt;
+    private volatile long lastModified;
+
+    @PostConstruct
+    void init() {
+        load();
+        lastModified = directoryLastModified();
+    }
+
+    public PromptTemplate get(String name) {
+        reloadIfChanged();
+        PromptTemplate template = templates.get(name);
+        if (template == null) {
+            throw new IllegalStateException("프롬프트 템플릿(" + name + ")이 없습니다.");
+        }
+        return template;
+    }
+
+    public String version() {
+        reloadIfChanged();
+        return version;
+    }
+
+    private synchronized void load() {
+        Map<String, PromptTemplate> loaded = new HashMap<>();
+        StringBuilder contents = new StringBuilder();
+
+        for (String name : NAMES) {
+            String text = read(name);
+            loaded.put(name, new PromptTemplate(text));
+            contents.append(name).append('\u0000').append(text).append('\u0000');
+        }
+
+        templates = loaded;
+        version = promptVersion + "-" + sha256(contents.toString()).substring(0, 12);
+        log.info("프롬프트 템플릿을 불러왔습니다. (version: {})", version);
+    }
+
+    private void reloadIfChanged() {
+        if (!hotReload || dir == null || dir.isBlank()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (now - lastCheckedAt < RELOAD_CHECK_INTERVAL_MS) {
+            return;
+        }
+        lastCheckedAt = now;
+
+        long modified = directoryLastModified();
+        if (modified == lastModified) {
+            return;
+        }
+
+        try {
+            load();
+            lastModified = modified;
+        } catch (IllegalStateException e) {
+            // 수정 중인 파일 등으로 읽기에 실패하면 이전 템플릿을 계속 사용
+            log.warn("프롬프트 템플릿을 다시 읽지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    private long directoryLastModified() {
+        if (dir == null || dir.isBlank()) {
+            return 0;
+        }
+        long max = 0;
+        for (String name : NAMES) {
+            Path path = Path.of(dir, name + ".txt");
+            try {
+                if (Files.exists(path)) {
+                    max = Math.max(max, Files.getLastModifiedTime(path).toMillis());
+                }
+            } catch (IOException ignored) {
+            }
+        }
+        return max;
+    }
+
+    private String read(String name) {
+        String fileName = name + ".txt";
+        try {
+            if (dir != null && !dir.isBlank()) {
+                Path path = Path.of(dir, fileName);
+                if (Files.exists(path)) {
+                    return Files.readString(path, StandardCharsets.UTF_8);
+                }
+            }
+
+            ClassPathResource resource = new ClassPathResource("prompts/" + fileName);
+            try (InputStream is = resource.getInputStream()) {
+                return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(
+                    "프롬프트 템플릿(" + fileName + ")을 읽는 데 실패했습니다.", e
+            );
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
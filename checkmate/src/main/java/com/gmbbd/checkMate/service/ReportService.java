@@ -1,48 +1,237 @@
 package com.gmbbd.checkMate.service;
 
 import com.gmbbd.checkMate.model.EvaluationResult;
+import com.gmbbd.checkMate.model.SummaryAccumulator;
 import com.gmbbd.checkMate.model.SummaryResponse;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.draw.SolidLine;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Cell;
+import com.itextpdf.layout.element.LineSeparator;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Table;
+import com.itextpdf.layout.element.Text;
+import com.itextpdf.layout.properties.UnitValue;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
 @Service
 @RequiredArgsConstructor
 public class ReportService {
 
+    // iText font-asian 에 포함된 한글 CMap 폰트 (PDF 에 내장하지 않아 파일이 작음)
+    private static final String KOREAN_FONT = "HYSMyeongJo-Medium";
+    private static final String KOREAN_ENCODING = "UniKS-UCS2-H";
+
+    // 두 폰트 모두에 없는 글자 대신 쓰는 글자
+    private static final String MISSING_GLYPH = "?";
+
     private final AnalysisService analysisService;
+    private final AnalysisStore analysisStore;
 
-    public String generateReport(MultipartFile requirements, MultipartFile submission) {
+    /**
+     * 보고서용 분석 입력 준비 (검증 → 파싱 → 요구사항 분리)
+     * 보고서를 쓰기 시작하기 전에 요청 스레드에서 호출해서 입력 오류를 400으로 돌려줌
+     */
+    public AnalysisService.PreparedAnalysis prepare(MultipartFile requirements, MultipartFile submission) {
+        return analysisService.prepare(requirements, submission);
+    }
 
-        SummaryResponse summary = SummaryResponse.from(
-                analysisService.evaluate(requirements, submission)
-        );
+    /**
+     * 분석하면서 TXT 보고서를 out 에 바로 기록
+     *  - 머리말(총 요구사항 수)을 먼저 쓰고, 이후 평가가 끝나는 순서대로 요구사항 항목을 하나씩 쓰고 flush
+     *  - 상태별 집계는 모든 결과가 나와야 알 수 있으므로 맨 끝에 기록
+     *  - 끝나면 결과를 AnalysisStore 에 보관 (이후 /api/analyses/{id}/report 로 재분석 없이 다시 받음)
+     *  - out 은 닫지 않음 (호출 측 소유)
+     */
+    public SummaryResponse streamText(AnalysisService.PreparedAnalysis prepared, OutputStream out) throws IOException {
+        Writer w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 8192);
 
-        StringBuilder sb = new StringBuilder();
+        w.write("[Checkmate 분석 보고서]\n");
+        w.write("============================================\n\n");
+        w.write("총 요구사항 수 : " + prepared.requirements().size() + "\n");
+        w.write("(요구사항별 결과는 평가가 끝나는 순서대로, 상태별 집계는 맨 끝에 기록)\n\n");
+        w.write("============================================\n");
+        w.write("         요구사항별 상세 분석 결과\n");
+        w.write("============================================\n\n");
+        w.flush();
 
-        sb.append("[Checkmate 분석 보고서]\n");
-        sb.append("============================================\n\n");
+        SummaryAccumulator accumulator = new SummaryAccumulator();
+        for (EvaluationResult r : analysisService
+                .evaluateFlux(prepared.requirements(), prepared.submission())
+                .toIterable()) {
+            accumulator.add(r);
+            writeEntry(w, r);
+            w.flush();
+        }
 
-        sb.append("총 요구사항 수 : ").append(summary.getDetails().size()).append("\n");
-        sb.append("- 충족(FULFILLED)       : ").append(summary.getFulfilled()).append("\n");
-        sb.append("- 부분 충족(PARTIAL)    : ").append(summary.getPartial()).append("\n");
-        sb.append("- 미충족(NOT_FULFILLED) : ").append(summary.getNotFulfilled()).append("\n\n");
+        SummaryResponse summary = analysisStore.save(accumulator.toResponse());
 
-        sb.append("============================================\n");
-        sb.append("         요구사항별 상세 분석 결과\n");
-        sb.append("============================================\n\n");
+        w.write("============================================\n");
+        w.write("분석 ID : " + summary.getAnalysisId() + "\n");
+        writeCounts(w, summary);
+        w.flush();
+        return summary;
+    }
+
+    /**
+     * 보관된 분석 결과 → TXT 보고서를 out 에 바로 기록 (LLM 호출 없음)
+     *  - 요약 부분을 쓰자마자 flush 해서 첫 바이트가 바로 전달되고,
+     *    이후 요구사항별 항목은 버퍼(8KB)가 찰 때마다 내보내므로 보고서 크기와 관계없이 메모리 일정
+     *  - out 은 닫지 않음 (호출 측 소유)
+     */
+    public void writeText(SummaryResponse summary, OutputStream out) throws IOException {
+        Writer w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 8192);
+
+        w.write("[Checkmate 분석 보고서]\n");
+        if (summary.getAnalysisId() != null) {
+            w.write("분석 ID : " + summary.getAnalysisId() + "\n");
+        }
+        w.write("============================================\n\n");
+        writeCounts(w, summary);
+
+        w.write("============================================\n");
+        w.write("         요구사항별 상세 분석 결과\n");
+        w.write("============================================\n\n");
+        w.flush();
 
         for (EvaluationResult r : summary.getDetails()) {
+            writeEntry(w, r);
+        }
+
+        w.flush();
+    }
+
+    private static void writeCounts(Writer w, SummaryResponse summary) throws IOException {
+        w.write("총 요구사항 수 : " + summary.getDetails().size() + "\n");
+        w.write("- 충족(FULFILLED)       : " + summary.getFulfilled() + "\n");
+        w.write("- 부분 충족(PARTIAL)    : " + summary.getPartial() + "\n");
+        w.write("- 미충족(NOT_FULFILLED) : " + summary.getNotFulfilled() + "\n");
+        w.write("- 평가 오류(ERROR)      : " + summary.getError() + "\n\n");
+    }
+
+    private static void writeEntry(Writer w, EvaluationResult r) throws IOException {
+        w.write("■ 요구사항 #" + r.getRequirementId() + "\n");
+        w.write("내용   : " + r.getRequirementText() + "\n");
+        w.write("판정   : " + r.getStatus() + "\n");
+        w.write("근거   : " + evidence(r) + "\n");
+        w.write("--------------------------------------------\n\n");
+    }
 
-            sb.append("■ 요구사항 #").append(r.getRequirementId()).append("\n");
-            sb.append("내용   : ").append(r.getRequirementText()).append("\n");
-            sb.append("판정   : ").append(r.getStatus()).append("\n");
-            sb.append("근거   : ").append(
-                    r.getEvidence() != null ? r.getEvidence() : "근거 없음"
-            ).append("\n");
-            sb.append("--------------------------------------------\n\n");
+    /**
+     * 보관된 분석 결과 → PDF 보고서를 out 에 바로 기록 (LLM 호출 없음)
+     * 페이지가 채워지는 대로 내보내므로 전체 PDF 를 메모리에 모으지 않음, out 은 닫지 않음
+     */
+    public void writePdf(SummaryResponse summary, OutputStream out) throws IOException {
+        PdfWriter writer = new PdfWriter(out);
+        writer.setCloseStream(false);
+
+        try (Document document = new Document(new PdfDocument(writer), PageSize.A4)) {
+            PdfText text = new PdfText(
+                    PdfFontFactory.createFont(KOREAN_FONT, KOREAN_ENCODING),
+                    PdfFontFactory.createFont(StandardFonts.HELVETICA));
+            document.setFontSize(10);
+
+            document.add(text.paragraph("Checkmate 분석 보고서").setFontSize(16));
+            if (summary.getAnalysisId() != null) {
+                document.add(text.paragraph("분석 ID : " + summary.getAnalysisId()).setFontSize(8));
+            }
+
+            Table counts = new Table(UnitValue.createPercentArray(new float[]{3, 1})).useAllAvailableWidth();
+            text.row(counts, "총 요구사항 수", String.valueOf(summary.getDetails().size()));
+            text.row(counts, "충족(FULFILLED)", String.valueOf(summary.getFulfilled()));
+            text.row(counts, "부분 충족(PARTIAL)", String.valueOf(summary.getPartial()));
+            text.row(counts, "미충족(NOT_FULFILLED)", String.valueOf(summary.getNotFulfilled()));
+            text.row(counts, "평가 오류(ERROR)", String.valueOf(summary.getError()));
+            text.row(counts, "점수", String.format("%.1f", summary.getScore()));
+            document.add(counts);
+
+            document.add(text.paragraph("요구사항별 상세 분석 결과").setFontSize(13).setMarginTop(16));
+
+            for (EvaluationResult r : summary.getDetails()) {
+                document.add(text.paragraph("■ 요구사항 #" + r.getRequirementId()).setFontSize(11).setMarginTop(8));
+                document.add(text.paragraph("내용 : " + nullToEmpty(r.getRequirementText())));
+                document.add(text.paragraph("판정 : " + r.getStatus()));
+                document.add(text.paragraph("근거 : " + evidence(r)));
+                document.add(new LineSeparator(new SolidLine(0.5f)));
+            }
         }
+    }
+
+    /**
+     * PDF 에 넣을 텍스트를 글자마다 그 글자가 있는 폰트로 나눔 (한글 CMap 폰트 → Helvetica 순서)
+     *  - CMap 폰트에는 ü é 같은 라틴 악센트 문자가 없어서 Helvetica 로 대신 씀
+     *  - 두 폰트 모두 없는 글자(ά 같은 그리스 악센트, 이모지, BMP 밖 문자 등)는 ? 로 바꿈
+     *    (없는 글자를 그대로 넣으면 iText 가 글자 폭 계산에서 NPE, BMP 밖 문자는 인코딩 예외)
+     *  - 줄바꿈은 그대로, 탭 등 나머지 공백 문자는 공백 한 칸으로
+     */
+    private record PdfText(PdfFont primary, PdfFont fallback) {
+
+        Paragraph paragraph(String s) {
+            Paragraph paragraph = new Paragraph();
+            StringBuilder run = new StringBuilder();
+            PdfFont runFont = primary;
+
+            for (int i = 0; i < s.length(); ) {
+                int cp = s.codePointAt(i);
+                i += Character.charCount(cp);
+
+                String glyph;
+                PdfFont font;
+                if (cp == '\n') {
+                    glyph = "\n";
+                    font = runFont;
+                } else if (Character.isWhitespace(cp)) {
+                    glyph = " ";
+                    font = runFont;
+                } else if (primary.containsGlyph(cp)) {
+                    glyph = new String(Character.toChars(cp));
+                    font = primary;
+                } else if (fallback.containsGlyph(cp)) {
+                    glyph = new String(Character.toChars(cp));
+                    font = fallback;
+                } else {
+                    glyph = MISSING_GLYPH;
+                    font = primary;
+                }
+
+                if (font != runFont && run.length() > 0) {
+                    paragraph.add(new Text(run.toString()).setFont(runFont));
+                    run.setLength(0);
+                }
+                runFont = font;
+                run.append(glyph);
+            }
+            if (run.length() > 0) {
+                paragraph.add(new Text(run.toString()).setFont(runFont));
+            }
+            return paragraph;
+        }
+
+        void row(Table table, String label, String value) {
+            table.addCell(new Cell().add(paragraph(label)));
+            table.addCell(new Cell().add(paragraph(value)));
+        }
+    }
+
+    private static String evidence(EvaluationResult r) {
+        return r.getEvidence() != null ? r.getEvidence() : "근거 없음";
+    }
 
-        return sb.toString();
+    private static String nullToEmpty(String s) {
+        return s == null ? "" : s;
     }
 }
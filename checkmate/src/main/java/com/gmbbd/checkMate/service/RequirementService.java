@@ -3,59 +3,154 @@ package com.gmbbd.checkMate.service;
 import com.gmbbd.checkMate.model.Requirement;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 // PDF/DOCX 텍스트에서 "요구사항 항목"을 찾아서 Requirement 리스트로 변환
 @Service
 public class RequirementService {
 
+    // 인식할 요구사항 형식 (예전 정규식 3개를 순서대로 시도하던 것과 같은 결과, 정규식 없이 한 번만 훑음)
+    //  NUMBERED : 1. 내용 / 1) 내용 / 1 - 내용 / 1 내용 / 1.1. 내용 / 1.2.3 내용 ...   → 상위 = 번호 앞부분이 같은 항목 (2.1 → 2)
+    //  LABELED  : (1) 내용 / [1] 내용 / (A) 내용 / a) 내용 ...                         → 번호 항목 아래
+    //  BULLET   : • 내용 / ● 내용 / - 내용 / * 내용 (앞에 기호 하나 + 공백)            → 깊이 = 들여쓰기
+    private static final int NUMBERED = 0;
+    private static final int LABELED = 1;
+    private static final int BULLET = 2;
 
-    // 인식할 요구사항 패턴
-    private static final List<Pattern> REQUIREMENT_PATTERNS = List.of(
-            // 1. 내용 / 1) 내용 / 1 - 내용 / 1 내용 / 1.1. 내용 / 1.2.3 내용 ...
-            Pattern.compile("^\\s*(\\d+(?:\\.\\d+)*)(?:[\\.)-])?\\s+(.+)$"),
-
-            // (1) 내용 / [1] 내용 / (A) 내용 / a) 내용 ...
-            Pattern.compile("^\\s*[\\[\\(]?(\\d+|[A-Za-z])[\\]\\)]?\\)?\\s+(.+)$"),
+    /**
+     * 한 줄을 해석한 결과 (본문 + 계층 판단용 형식/깊이, NUMBERED 는 깊이 대신 점으로 이은 번호)
+     */
+    private record ParsedLine(String body, int kind, int depth, String number) {
+    }
 
-            // • 내용 / ● 내용 / - 내용 / * 내용 (앞에 기호 하나 + 공백)
-            Pattern.compile("^\\s*[•●\\-\\*]\\s+(.+)$")
-    );
+    /**
+     * 계층 스택 항목 (아직 하위 항목을 받을 수 있는 상위 항목)
+     */
+    private record Node(long id, int kind, int depth, String number) {
+
+        /**
+         * 번호 항목끼리는 번호 앞부분으로만 판단 (1 → 1.1 은 상위, 1 → 2.1 은 아님)
+         * 상위 번호 줄이 없거나 걸러진 경우(2. UI 처럼 본문이 짧은 줄) 하위 번호 항목은 최상위로 남음
+         */
+        boolean isAncestorOf(ParsedLine line) {
+            if (kind == NUMBERED && line.kind() == NUMBERED) {
+                String child = line.number();
+                return child.length() > number.length()
+                        && child.startsWith(number)
+                        && child.charAt(number.length()) == '.';
+            }
+            return kind < line.kind() || (kind == line.kind() && depth < line.depth());
+        }
+    }
 
     /**
      * 한 줄에서 요구사항 본문을 추출
-     *  - 어떤 패턴에도 맞지 않으면 null 반환
+     *  - 형식을 NUMBERED → LABELED → BULLET 순서로 시도하고, 본문이 너무 짧으면 다음 형식 시도
+     *  - 어떤 형식에도 맞지 않으면 null 반환
      */
-    private String extractRequirementBody(String line) {
+    private ParsedLine parseLine(String line) {
         String trimmed = line.trim();
         if (trimmed.isBlank()) {
             return null;
         }
 
-        for (Pattern p : REQUIREMENT_PATTERNS) {
-            Matcher m = p.matcher(trimmed);
-            if (m.matches()) {
-                // "본문"은 항상 마지막 그룹으로 두었으므로 groupCount() 사용
-                String body = m.group(m.groupCount());
-                if (body != null) {
-                    body = body.trim();
-                }
-                // 너무 짧은 건(예: "-"만 있는 줄)은 필터링
-                if (body != null && body.length() >= 3) {
-                    return body;
-                }
+        int indent = 0;
+        while (indent < line.length() && line.charAt(indent) <= ' ') indent++;
+
+        ParsedLine parsed = parseNumbered(trimmed);
+        if (parsed == null) {
+            parsed = parseLabeled(trimmed);
+        }
+        if (parsed == null) {
+            parsed = parseBullet(trimmed, indent);
+        }
+        return parsed;
+    }
+
+    // 1 / 1. / 1) / 1- / 1.2.3 / 1.2.3. ... 다음에 공백
+    private ParsedLine parseNumbered(String s) {
+        int i = skipDigits(s, 0);
+        if (i == 0) {
+            return null;
+        }
+
+        while (i + 1 < s.length() && s.charAt(i) == '.' && isDigit(s.charAt(i + 1))) {
+            i = skipDigits(s, i + 1);
+        }
+        String number = s.substring(0, i);
+        if (i < s.length() && (s.charAt(i) == '.' || s.charAt(i) == ')' || s.charAt(i) == '-')) {
+            i++;
+        }
+        return body(s, i, NUMBERED, 0, number);
+    }
+
+    // (1) / [1] / (A) / a) / 1] / A ... 다음에 공백
+    private ParsedLine parseLabeled(String s) {
+        int i = 0;
+        if (s.charAt(i) == '(' || s.charAt(i) == '[') {
+            i++;
+        }
+
+        int labelEnd = skipDigits(s, i);
+        if (labelEnd == i) {
+            if (i >= s.length() || !isAsciiLetter(s.charAt(i))) {
+                return null;
+            }
+            labelEnd = i + 1;
+        }
+
+        i = labelEnd;
+        if (i < s.length() && (s.charAt(i) == ']' || s.charAt(i) == ')')) {
+            i++;
+        }
+        if (i < s.length() && s.charAt(i) == ')') {
+            i++;
+        }
+        return body(s, i, LABELED, 1, null);
+    }
+
+    // • / ● / - / * 다음에 공백
+    private ParsedLine parseBullet(String s, int indent) {
+        char c = s.charAt(0);
+        if (c != '•' && c != '●' && c != '-' && c != '*') {
+            return null;
+        }
+        return body(s, 1, BULLET, indent, null);
+    }
+
+    /**
+     * 표시(번호/기호) 뒤 공백을 건너뛴 나머지를 본문으로
+     *  - 표시 바로 뒤에 공백이 없거나 본문에 줄 구분 문자가 있으면 형식 불일치
+     *  - 너무 짧은 건(예: "-"만 있는 줄)은 필터링
+     */
+    private ParsedLine body(String s, int markerEnd, int kind, int depth, String number) {
+        int i = markerEnd;
+        while (i < s.length() && isSpace(s.charAt(i))) i++;
+        if (i == markerEnd || i == s.length()) {
+            return null;
+        }
+
+        for (int k = i; k < s.length(); k++) {
+            if (isLineTerminator(s.charAt(k))) {
+                return null;
             }
         }
 
+        String body = s.substring(i).trim();
+        if (body.length() >= 3) {
+            return new ParsedLine(body, kind, depth, number);
+        }
         return null;
     }
 
     /**
-     * 요구사항 텍스트를 줄 단위로 나누고,
-     * 번호/불릿 패턴으로 시작하는 줄들을 Requirement 리스트로 변환
+     * 요구사항 텍스트를 줄 단위로 한 번 훑으면서
+     * 번호/불릿 형식으로 시작하는 줄들을 Requirement 리스트로 변환
+     *  - 번호 단계(1 → 1.1 → 1.1.1), 번호 아래 (a)/불릿, 들여쓴 불릿으로 상위 항목(parentId)과 깊이(level) 기록
+     *  - 목록 자체는 예전처럼 등장 순서대로 평평하게 (번호도 1부터 순서대로)
      * 11/17 번호 없이 줄글로 입력된 경우 fallback 로직 추가
      */
     public List<Requirement> extractRequirements(String requirementText) {
@@ -65,16 +160,32 @@ public class RequirementService {
             return requirements;
         }
 
-        String[] lines = requirementText.split("\\r?\\n");
         long id = 1L;
+        Deque<Node> ancestors = new ArrayDeque<>();
+
+        // 1차: 번호/불릿 형식 (\r?\n 기준으로 줄 나누기)
+        int start = 0;
+        while (start <= requirementText.length()) {
+            int newline = requirementText.indexOf('\n', start);
+            int end = (newline < 0) ? requirementText.length() : newline;
+            int lineEnd = (end > start && requirementText.charAt(end - 1) == '\r') ? end - 1 : end;
+
+            ParsedLine parsed = parseLine(requirementText.substring(start, lineEnd));
+            if (parsed != null) {
+                while (!ancestors.isEmpty() && !ancestors.peek().isAncestorOf(parsed)) {
+                    ancestors.pop();
+                }
+                Long parentId = ancestors.isEmpty() ? null : ancestors.peek().id();
+
+                requirements.add(new Requirement(id, parsed.body(), parentId, ancestors.size()));
+                ancestors.push(new Node(id, parsed.kind(), parsed.depth(), parsed.number()));
+                id++;
+            }
 
-        // 1차: 번호/불릿 패턴
-        for (String line : lines) {
-            String body = extractRequirementBody(line);
-            if (body == null) {
-                continue;
+            if (newline < 0) {
+                break;
             }
-            requirements.add(new Requirement(id++, body));
+            start = newline + 1;
         }
 
         // 번호/불릿에서 아무것도 못 찾았으면 줄글 fallback
@@ -97,4 +208,33 @@ public class RequirementService {
         return requirements;
     }
 
+    private static int skipDigits(String s, int i) {
+        while (i < s.length() && isDigit(s.charAt(i))) i++;
+        return i;
+    }
+
+    /**
+     * 정규식 \d 와 같은 기준 (ASCII 숫자만)
+     */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    /**
+     * 정규식 \s 와 같은 공백 문자 ([ \t\n\x0B\f\r])
+     */
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * 정규식 . 이 맞추지 않는 줄 구분 문자
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
 }
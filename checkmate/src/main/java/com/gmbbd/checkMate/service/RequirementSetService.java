@@ -0,0 +1,92 @@
+package com.gmbbd.checkMate.service;
+
+import com.gmbbd.checkMate.metrics.StageMetrics;
+import com.gmbbd.checkMate.model.EvaluationResult;
+import com.gmbbd.checkMate.model.ParsedDocument;
+import com.gmbbd.checkMate.model.Requirement;
+import com.gmbbd.checkMate.model.RequirementSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 요구사항 목록 등록/재사용
+ *  요구사항 파일은 한 번만 파싱/분리/컴파일해 두고, 이후에는 제출물만 받아 분석
+ *  - 최대 max-entries 개 보관, 넘으면 가장 오래 사용되지 않은 목록부터 제거
+ */
+@Service
+@RequiredArgsConstructor
+public class RequirementSetService {
+
+    private final ValidationService validationService;
+    private final ParseService parseService;
+    private final RequirementService requirementService;
+    private final CompareService compareService;
+    private final AnalysisService analysisService;
+    private final StageMetrics stageMetrics;
+
+    @Value("${checkmate.requirement-sets.max-entries:100}")
+    private int maxEntries;
+
+    private final Map<String, RequirementSet> sets = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, RequirementSet> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    public RequirementSet register(MultipartFile requirements) {
+        RequirementSet set = build(requirements);
+
+        synchronized (sets) {
+            sets.put(set.getId(), set);
+        }
+        return set;
+    }
+
+    /**
+     * 요구사항 파일 파싱 + 분리 + 키워드 컴파일 (보관하지 않음, 일괄 채점 등 1회용)
+     */
+    public RequirementSet build(MultipartFile requirements) {
+        validationService.validateFile(requirements);
+
+        String requirementText = parseService.extractText(requirements);
+        List<Requirement> reqList = stageMetrics.time("extract-requirements",
+                () -> requirementService.extractRequirements(requirementText));
+
+        return new RequirementSet(
+                UUID.randomUUID().toString(),
+                requirements.getOriginalFilename(),
+                reqList,
+                compareService.compile(reqList)
+        );
+    }
+
+    public Optional<RequirementSet> find(String id) {
+        synchronized (sets) {
+            return Optional.ofNullable(sets.get(id));
+        }
+    }
+
+    /**
+     * 등록된 요구사항 목록으로 제출물 분석 (없는 id 면 빈 Optional)
+     */
+    public Optional<List<EvaluationResult>> analyze(String id, MultipartFile submission) {
+        Optional<RequirementSet> set = find(id);
+        if (set.isEmpty()) {
+            return Optional.empty();
+        }
+
+        validationService.validateFile(submission);
+        ParsedDocument submissionDocument = parseService.parse(submission);
+
+        return Optional.of(analysisService.evaluate(set.get(), submissionDocument));
+    }
+}
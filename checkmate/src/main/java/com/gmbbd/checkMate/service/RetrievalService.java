@@ -0,0 +1,85 @@
+package com.gmbbd.checkMate.service;
+
+import com.gmbbd.checkMate.model.ParsedDocument;
+import com.gmbbd.checkMate.model.Requirement;
+import com.gmbbd.checkMate.util.ChunkIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 제출문 전체 대신 요구사항과 관련된 부분만 LLM에 보내기 위한 검색 단계
+ *  - 제출문을 chunk-size 글자 단위(overlap 만큼 겹침)로 나누어 분석 1회당 한 번 인덱싱
+ *  - 요구사항마다 BM25 상위 top-k 청크만 선택
+ */
+@Service
+public class RetrievalService {
+
+    @Value("${checkmate.retrieval.enabled:false}")
+    private boolean enabled;
+
+    @Value("${checkmate.retrieval.top-k:4}")
+    private int topK;
+
+    @Value("${checkmate.retrieval.chunk-size:1500}")
+    private int chunkSize;
+
+    @Value("${checkmate.retrieval.chunk-overlap:200}")
+    private int chunkOverlap;
+
+    /**
+     * LLM에 보낼 제출문 일부와 그 청크 번호 / 청크가 걸친 페이지 번호
+     * chunkIds 가 null 이면 제출문 전체, pages 는 한 페이지 문서면 null
+     */
+    public record RetrievedContext(String text, List<Integer> chunkIds, List<Integer> pages) {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public ChunkIndex index(ParsedDocument submission) {
+        return new ChunkIndex(submission.getText(), chunkSize, chunkOverlap);
+    }
+
+    /**
+     * 요구사항들(배치) 각각의 상위 청크를 합쳐 하나의 컨텍스트로 만듦
+     * 제출문이 top-k 청크 이하로 짧으면 그대로 전체를 사용
+     * (index 는 submission 의 텍스트로 만든 것)
+     */
+    public RetrievedContext select(ChunkIndex index, ParsedDocument submission, List<Requirement> requirements) {
+        if (index.size() <= topK) {
+            return new RetrievedContext(index.getText(), null, null);
+        }
+
+        TreeSet<Integer> selected = new TreeSet<>();
+        for (Requirement req : requirements) {
+            selected.addAll(index.search(req.getRawText(), topK));
+        }
+
+        return new RetrievedContext(index.join(selected), new ArrayList<>(selected), pages(index, submission, selected));
+    }
+
+    /**
+     * 선택한 청크들이 걸친 페이지 번호 (오름차순, 중복 없음)
+     */
+    private static List<Integer> pages(ChunkIndex index, ParsedDocument submission, TreeSet<Integer> chunkIds) {
+        if (submission.getPageCount() <= 1) {
+            return null;
+        }
+
+        TreeSet<Integer> pages = new TreeSet<>();
+        for (int id : chunkIds) {
+            ChunkIndex.Chunk chunk = index.getChunks().get(id);
+            int first = submission.pageOf(chunk.start());
+            int last = submission.pageOf(Math.max(chunk.start(), chunk.end() - 1));
+            for (int page = first; page <= last; page++) {
+                pages.add(page);
+            }
+        }
+        return new ArrayList<>(pages);
+    }
+}
@@ -0,0 +1,52 @@
+package com.gmbbd.checkMate.service;
+
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingRegistry;
+import com.knuddels.jtokkit.api.EncodingType;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프롬프트 토큰 수를 호출 전에 로컬에서 계산 (jtokkit, OpenAI 와 같은 BPE 인코딩)
+ *  - openai.model 에 맞는 인코딩 사용, 모르는 모델이면 o200k_base (gpt-4o 계열)
+ *  - chat 메시지 1개의 형식 토큰(역할 표시 등)을 더해서 usage.prompt_tokens 와 맞춤
+ */
+@Slf4j
+@Component
+public class TokenEstimator {
+
+    // 메시지 1개 + 응답 시작 표시에 붙는 토큰
+    private static final int CHAT_OVERHEAD_TOKENS = 7;
+
+    @Value("${openai.model:gpt-4o-mini}")
+    private String model;
+
+    private Encoding encoding;
+
+    @PostConstruct
+    void init() {
+        EncodingRegistry registry = Encodings.newLazyEncodingRegistry();
+        encoding = registry.getEncodingForModel(model)
+                .orElseGet(() -> {
+                    log.info("{} 모델의 토큰 인코딩을 알 수 없어 o200k_base 로 계산합니다.", model);
+                    return registry.getEncoding(EncodingType.O200K_BASE);
+                });
+    }
+
+    /**
+     * 텍스트 자체의 토큰 수
+     */
+    public int count(String text) {
+        return (text == null || text.isEmpty()) ? 0 : encoding.countTokens(text);
+    }
+
+    /**
+     * 사용자 메시지 1개로 보내는 프롬프트의 입력 토큰 수
+     */
+    public int countPrompt(String prompt) {
+        return count(prompt) + CHAT_OVERHEAD_TOKENS;
+    }
+}
@@ -1,22 +1,32 @@
 package com.gmbbd.checkMate.service;
 
 import com.gmbbd.checkMate.exception.ApiException;
+import com.gmbbd.checkMate.metrics.StageMetrics;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
+@RequiredArgsConstructor
 public class ValidationService {
 
     private static final long MAX_SIZE = 10 * 1024 * 1024; // 10MB
 
+    private final StageMetrics stageMetrics;
+
     /**
      * MultipartFile 검증
      * 검증 내용:
      *  - null / empty
      *  - 파일 크기 제한
      *  - 확장자(pdf/docx/txt)
+     * 거절된 파일은 checkmate.errors{stage=validate} 로 집계
      */
     public void validateFile(MultipartFile multipartFile) {
+        stageMetrics.time("validate", () -> check(multipartFile));
+    }
+
+    private void check(MultipartFile multipartFile) {
         if (multipartFile == null || multipartFile.isEmpty()) {
             throw new ApiException("업로드된 파일이 비어있습니다.");
         }
@@ -0,0 +1,222 @@
+package com.gmbbd.checkMate.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 제출문을 겹치는 청크로 나누고 BM25 로 검색하는 인덱스 (분석 1회당 1번 생성)
+ *  - 영어/숫자: 소문자 단어 단위
+ *  - 한글: 조사/어미가 붙어도 맞도록 음절 bigram 단위
+ */
+public class ChunkIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final String text;
+    private final List<Chunk> chunks = new ArrayList<>();
+    private final List<Map<String, Integer>> termFreqs = new ArrayList<>();
+    private final Map<String, Integer> docFreqs = new HashMap<>();
+    private final int[] lengths;
+    private final double avgLength;
+
+    /**
+     * 청크 하나: 원문에서의 [start, end) 구간
+     */
+    public record Chunk(int id, int start, int end) {
+    }
+
+    public ChunkIndex(String text, int chunkSize, int overlap) {
+        this.text = (text == null) ? "" : text;
+
+        int size = Math.max(1, chunkSize);
+        int step = Math.max(1, size - Math.max(0, overlap));
+
+        int start = 0;
+        while (start < this.text.length()) {
+            int end = findBreak(this.text, start, Math.min(start + size, this.text.length()));
+            chunks.add(new Chunk(chunks.size(), start, end));
+            if (end >= this.text.length()) {
+                break;
+            }
+            start = alignStart(this.text, Math.max(start + 1, Math.min(start + step, end)), end);
+        }
+
+        lengths = new int[chunks.size()];
+        long totalLength = 0;
+        for (Chunk chunk : chunks) {
+            Map<String, Integer> tf = new HashMap<>();
+            for (String term : tokenize(this.text.substring(chunk.start(), chunk.end()))) {
+                tf.merge(term, 1, Integer::sum);
+                lengths[chunk.id()]++;
+            }
+            termFreqs.add(tf);
+            totalLength += lengths[chunk.id()];
+
+            for (String term : tf.keySet()) {
+                docFreqs.merge(term, 1, Integer::sum);
+            }
+        }
+        avgLength = chunks.isEmpty() ? 0 : (double) totalLength / chunks.size();
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public int size() {
+        return chunks.size();
+    }
+
+    public List<Chunk> getChunks() {
+        return chunks;
+    }
+
+    /**
+     * query 와 가장 관련 있는 청크 id 상위 k 개 (점수 내림차순, 동점이면 앞쪽 청크 우선)
+     * 겹치는 단어가 하나도 없으면 문서 앞부분 k 개
+     */
+    public List<Integer> search(String query, int k) {
+        Set<String> queryTerms = new LinkedHashSet<>(tokenize(query));
+
+        List<double[]> scored = new ArrayList<>();
+        for (int i = 0; i < chunks.size(); i++) {
+            double score = score(i, queryTerms);
+            if (score > 0) {
+                scored.add(new double[]{i, score});
+            }
+        }
+        scored.sort(Comparator.<double[]>comparingDouble(s -> -s[1]).thenComparingDouble(s -> s[0]));
+
+        List<Integer> ids = new ArrayList<>();
+        if (scored.isEmpty()) {
+            for (int i = 0; i < Math.min(k, chunks.size()); i++) {
+                ids.add(i);
+            }
+            return ids;
+        }
+        for (int i = 0; i < Math.min(k, scored.size()); i++) {
+            ids.add((int) scored.get(i)[0]);
+        }
+        return ids;
+    }
+
+    /**
+     * 선택된 청크들을 원문 순서대로 이어 붙임 (겹치는 구간은 한 번만)
+     */
+    public String join(Set<Integer> chunkIds) {
+        List<Integer> sorted = new ArrayList<>(chunkIds);
+        sorted.sort(Comparator.naturalOrder());
+
+        StringBuilder sb = new StringBuilder();
+        int coveredUntil = -1;
+        for (int id : sorted) {
+            Chunk chunk = chunks.get(id);
+            if (chunk.start() > coveredUntil) {
+                if (sb.length() > 0) {
+                    sb.append("\n...\n");
+                }
+                sb.append(text, chunk.start(), chunk.end());
+            } else if (chunk.end() > coveredUntil) {
+                sb.append(text, coveredUntil, chunk.end());
+            }
+            coveredUntil = Math.max(coveredUntil, chunk.end());
+        }
+        return sb.toString();
+    }
+
+    private double score(int chunkId, Set<String> queryTerms) {
+        Map<String, Integer> tf = termFreqs.get(chunkId);
+        double length = lengths[chunkId];
+        int n = chunks.size();
+
+        double score = 0;
+        for (String term : queryTerms) {
+            Integer f = tf.get(term);
+            if (f == null) continue;
+
+            int df = docFreqs.getOrDefault(term, 0);
+            double idf = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+            score += idf * (f * (K1 + 1)) / (f + K1 * (1 - B + B * length / avgLength));
+        }
+        return score;
+    }
+
+    /**
+     * 청크 경계를 가능하면 줄바꿈/공백 위치로 맞춤 (단어가 잘리지 않도록)
+     */
+    private static int findBreak(String text, int start, int end) {
+        if (end >= text.length()) {
+            return text.length();
+        }
+        int minEnd = start + (end - start) / 2;
+        for (int i = end; i > minEnd; i--) {
+            if (text.charAt(i - 1) == '\n') return i;
+        }
+        for (int i = end; i > minEnd; i--) {
+            if (Character.isWhitespace(text.charAt(i - 1))) return i;
+        }
+        return end;
+    }
+
+    /**
+     * 다음 청크 시작 위치를 가능하면 줄/단어의 시작으로 맞춤
+     */
+    private static int alignStart(String text, int start, int limit) {
+        for (int i = start; i < limit; i++) {
+            if (text.charAt(i - 1) == '\n') return i;
+        }
+        for (int i = start; i < limit; i++) {
+            if (Character.isWhitespace(text.charAt(i - 1))) return i;
+        }
+        return start;
+    }
+
+    static List<String> tokenize(String s) {
+        List<String> tokens = new ArrayList<>();
+        if (s == null) {
+            return tokens;
+        }
+
+        String lower = s.toLowerCase(Locale.ROOT);
+        int i = 0;
+        while (i < lower.length()) {
+            char c = lower.charAt(i);
+
+            if (isHangul(c)) {
+                int j = i;
+                while (j < lower.length() && isHangul(lower.charAt(j))) j++;
+                if (j - i == 1) {
+                    tokens.add(lower.substring(i, j));
+                } else {
+                    for (int p = i; p + 1 < j; p++) {
+                        tokens.add(lower.substring(p, p + 2));
+                    }
+                }
+                i = j;
+
+            } else if (Character.isLetterOrDigit(c)) {
+                int j = i;
+                while (j < lower.length()
+                        && Character.isLetterOrDigit(lower.charAt(j))
+                        && !isHangul(lower.charAt(j))) j++;
+                tokens.add(lower.substring(i, j));
+                i = j;
+
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
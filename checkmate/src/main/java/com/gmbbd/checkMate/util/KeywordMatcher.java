@@ -0,0 +1,201 @@
+package com.gmbbd.checkMate.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 여러 키워드를 한 번에 찾는 Aho-Corasick 오토마톤
+ *  - 생성 시 모든 키워드를 하나의 트라이 + 실패 링크로 컴파일
+ *  - findAll() 은 텍스트를 한 번만 훑어서 각 키워드의 포함 여부(String.contains 와 같은 의미)를 반환
+ *  - 생성 후에는 읽기 전용이라 여러 스레드에서 동시에 사용 가능
+ */
+public final class KeywordMatcher {
+
+    private static final long EMPTY = -1L;
+
+    private final int patternCount;
+
+    // 트라이 전이 (state, char) → state : 박싱 없는 open addressing 테이블
+    private long[] edgeKeys;
+    private int[] edgeValues;
+    private int edgeCount;
+
+    private int[] fail;        // 실패 링크
+    private int[] dictLink;    // 실패 링크를 따라가며 만나는 "출력이 있는 상태" 중 가장 가까운 것 (-1: 없음)
+    private int[][] outputs;   // 상태에서 끝나는 키워드 번호들
+
+    public KeywordMatcher(List<String> patterns) {
+        this.patternCount = patterns.size();
+
+        edgeKeys = new long[64];
+        Arrays.fill(edgeKeys, EMPTY);
+        edgeValues = new int[64];
+
+        List<List<Integer>> out = new ArrayList<>();
+        out.add(new ArrayList<>());
+
+        // 1) 트라이 구성
+        int stateCount = 1;
+        for (int p = 0; p < patterns.size(); p++) {
+            String pattern = patterns.get(p);
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                int next = edge(state, pattern.charAt(i));
+                if (next < 0) {
+                    next = stateCount++;
+                    putEdge(state, pattern.charAt(i), next);
+                    out.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            out.get(state).add(p);
+        }
+
+        outputs = new int[stateCount][];
+        for (int s = 0; s < stateCount; s++) {
+            outputs[s] = out.get(s).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        // 2) BFS 로 실패 링크 / 출력 링크 계산
+        fail = new int[stateCount];
+        dictLink = new int[stateCount];
+        Arrays.fill(dictLink, -1);
+
+        List<List<int[]>> children = childrenByState(stateCount);
+
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int[] child : children.get(0)) {
+            fail[child[1]] = 0;
+            queue.add(child[1]);
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int[] child : children.get(state)) {
+                char c = (char) child[0];
+                int next = child[1];
+
+                int f = fail[state];
+                while (f != 0 && edge(f, c) < 0) {
+                    f = fail[f];
+                }
+                int target = edge(f, c);
+                fail[next] = (target >= 0 && target != next) ? target : 0;
+
+                int fs = fail[next];
+                dictLink[next] = outputs[fs].length > 0 ? fs : dictLink[fs];
+
+                queue.add(next);
+            }
+        }
+    }
+
+    public int size() {
+        return patternCount;
+    }
+
+    /**
+     * text 를 한 번 훑어서 각 키워드가 포함되어 있는지 반환 (인덱스 = 생성 시 키워드 순서)
+     */
+    public boolean[] findAll(CharSequence text) {
+        boolean[] found = new boolean[patternCount];
+        if (text == null || patternCount == 0) {
+            return found;
+        }
+
+        // 빈 키워드는 항상 포함된 것으로 봄 (String.contains("") == true)
+        for (int p : outputs[0]) {
+            found[p] = true;
+        }
+
+        // 이미 보고한 상태는 그 출력 링크 체인 전체도 이미 보고했으므로 다시 따라가지 않음
+        boolean[] reported = new boolean[outputs.length];
+
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            int next = edge(state, c);
+            while (next < 0 && state != 0) {
+                state = fail[state];
+                next = edge(state, c);
+            }
+            state = Math.max(next, 0);
+
+            int s = outputs[state].length > 0 ? state : dictLink[state];
+            while (s > 0 && !reported[s]) {
+                reported[s] = true;
+                for (int p : outputs[s]) {
+                    found[p] = true;
+                }
+                s = dictLink[s];
+            }
+        }
+        return found;
+    }
+
+    private List<List<int[]>> childrenByState(int stateCount) {
+        List<List<int[]>> children = new ArrayList<>(stateCount);
+        for (int s = 0; s < stateCount; s++) {
+            children.add(new ArrayList<>());
+        }
+        for (int i = 0; i < edgeKeys.length; i++) {
+            if (edgeKeys[i] != EMPTY) {
+                int from = (int) (edgeKeys[i] >>> 16);
+                char c = (char) (edgeKeys[i] & 0xFFFF);
+                children.get(from).add(new int[]{c, edgeValues[i]});
+            }
+        }
+        return children;
+    }
+
+    private int edge(int state, char c) {
+        long key = ((long) state << 16) | c;
+        int mask = edgeKeys.length - 1;
+        int i = hash(key) & mask;
+        while (true) {
+            long k = edgeKeys[i];
+            if (k == key) return edgeValues[i];
+            if (k == EMPTY) return -1;
+            i = (i + 1) & mask;
+        }
+    }
+
+    private void putEdge(int state, char c, int next) {
+        if ((edgeCount + 1) * 2 > edgeKeys.length) {
+            resize();
+        }
+        long key = ((long) state << 16) | c;
+        int mask = edgeKeys.length - 1;
+        int i = hash(key) & mask;
+        while (edgeKeys[i] != EMPTY) {
+            i = (i + 1) & mask;
+        }
+        edgeKeys[i] = key;
+        edgeValues[i] = next;
+        edgeCount++;
+    }
+
+    private void resize() {
+        long[] oldKeys = edgeKeys;
+        int[] oldValues = edgeValues;
+
+        edgeKeys = new long[oldKeys.length * 2];
+        Arrays.fill(edgeKeys, EMPTY);
+        edgeValues = new int[oldValues.length * 2];
+        edgeCount = 0;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                putEdge((int) (oldKeys[i] >>> 16), (char) (oldKeys[i] & 0xFFFF), oldValues[i]);
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
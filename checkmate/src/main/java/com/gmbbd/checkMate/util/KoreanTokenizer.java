@@ -0,0 +1,191 @@
+package com.gmbbd.checkMate.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 키워드 비교(CompareService)에서 쓰는 토크나이저
+ *  - 텍스트를 한 번만 훑어서 글자/숫자 연속 구간을 토큰으로 (normalizeForCompare + split 과 같은 경계)
+ *  - 불용어(조사/접속사)는 미리 컴파일한 트라이로 판정해서 버림
+ *  - stripSuffixes 면 뒤집은 접미사 트라이로 조사/어미를 떼어냄 (요구사항을 → 요구사항, 설명하시오 → 설명)
+ *    (CompareService 는 checkmate.compare.strip-particles 가 true 일 때만 사용, 기본값 false)
+ *  - 토큰은 부분 문자열을 만들지 않고 원문 위치 [start, end) 로만 전달 (소문자 변환/문자열 생성은 받는 쪽에서)
+ *  생성 후에는 읽기 전용이라 여러 스레드에서 동시에 사용 가능
+ */
+public final class KoreanTokenizer {
+
+    // CompareService 가 예전부터 쓰던 불용어 그대로
+    private static final List<String> STOP_WORDS = List.of(
+            "을", "를", "은", "는", "이", "가",
+            "에", "에서", "및", "그리고", "또는",
+            "으로", "으로서", "으로써", "와", "과"
+    );
+
+    // 떼어낼 조사/어미 (긴 것이 우선)
+    private static final List<String> SUFFIXES = List.of(
+            "을", "를", "은", "는", "이", "가", "의", "에", "와", "과", "로",
+            "에서", "에게", "으로", "으로서", "으로써", "로서", "로써", "까지", "부터", "보다", "처럼",
+            "이다", "입니다", "이며", "이고",
+            "하시오", "하세요", "하라", "한다", "합니다", "하여", "하고", "하며", "해야", "하는", "할",
+            "된다", "됩니다", "되어야", "되는", "될"
+    );
+
+    // 조사/어미를 뗀 뒤 남아야 하는 최소 글자 수 (나이 → 나 처럼 잘리는 것 방지)
+    private static final int MIN_STEM_LENGTH = 2;
+
+    public static final KoreanTokenizer DEFAULT = new KoreanTokenizer(STOP_WORDS, SUFFIXES);
+
+    /**
+     * 토큰 하나를 받는 콜백 (text 의 [start, end) 구간)
+     */
+    @FunctionalInterface
+    public interface TokenConsumer {
+        void accept(int start, int end);
+    }
+
+    private final Trie stopWords;
+    private final Trie reversedSuffixes;
+
+    public KoreanTokenizer(List<String> stopWords, List<String> suffixes) {
+        this.stopWords = new Trie(stopWords, false);
+        this.reversedSuffixes = new Trie(suffixes, true);
+    }
+
+    /**
+     * text 를 한 번 훑어서 불용어가 아닌 토큰의 위치를 순서대로 consumer 에 전달
+     */
+    public void tokenize(CharSequence text, boolean stripSuffixes, TokenConsumer consumer) {
+        if (text == null) {
+            return;
+        }
+
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            int cp = Character.codePointAt(text, i);
+            if (!isTokenChar(cp)) {
+                i += Character.charCount(cp);
+                continue;
+            }
+
+            int start = i;
+            while (i < length) {
+                cp = Character.codePointAt(text, i);
+                if (!isTokenChar(cp)) break;
+                i += Character.charCount(cp);
+            }
+
+            int end = i;
+            if (stopWords.matches(text, start, end)) {
+                continue;
+            }
+            if (stripSuffixes) {
+                end = stem(text, start, end);
+                if (stopWords.matches(text, start, end)) {
+                    continue;
+                }
+            }
+            consumer.accept(start, end);
+        }
+    }
+
+    /**
+     * 뒤에서부터 접미사 트라이를 따라가며 떼어낼 수 있는 가장 긴 조사/어미를 찾아 줄기 끝 위치 반환
+     * (ERD를 → ERD 처럼 영문 뒤에 붙은 조사도 뗌)
+     */
+    private int stem(CharSequence text, int start, int end) {
+        int node = 0;
+        int stemEnd = end;
+
+        for (int i = end - 1; i >= start + MIN_STEM_LENGTH; i--) {
+            node = reversedSuffixes.child(node, Character.toLowerCase(text.charAt(i)));
+            if (node < 0) {
+                break;
+            }
+            if (reversedSuffixes.isTerminal(node)) {
+                stemEnd = i;
+            }
+        }
+        return stemEnd;
+    }
+
+    /**
+     * TextNormalizer.normalizeForCompare 가 남기는 글자와 같은 기준
+     */
+    private static boolean isTokenChar(int cp) {
+        return Character.isAlphabetic(cp) || Character.isDigit(cp);
+    }
+
+    /**
+     * 생성 후 읽기 전용인 글자 트라이 (노드마다 자식 글자/번호 배열, 자식 수가 적어서 선형 탐색)
+     */
+    private static final class Trie {
+
+        private final char[][] labels;
+        private final int[][] children;
+        private final boolean[] terminal;
+
+        Trie(List<String> words, boolean reversed) {
+            List<StringBuilder> labelList = new ArrayList<>();
+            List<List<Integer>> childList = new ArrayList<>();
+            List<Boolean> terminalList = new ArrayList<>();
+            labelList.add(new StringBuilder());
+            childList.add(new ArrayList<>());
+            terminalList.add(false);
+
+            for (String word : words) {
+                int node = 0;
+                for (int k = 0; k < word.length(); k++) {
+                    char c = word.charAt(reversed ? word.length() - 1 - k : k);
+                    int index = labelList.get(node).indexOf(String.valueOf(c));
+                    if (index >= 0) {
+                        node = childList.get(node).get(index);
+                        continue;
+                    }
+                    int next = labelList.size();
+                    labelList.get(node).append(c);
+                    childList.get(node).add(next);
+                    labelList.add(new StringBuilder());
+                    childList.add(new ArrayList<>());
+                    terminalList.add(false);
+                    node = next;
+                }
+                terminalList.set(node, true);
+            }
+
+            int size = labelList.size();
+            labels = new char[size][];
+            children = new int[size][];
+            terminal = new boolean[size];
+            for (int n = 0; n < size; n++) {
+                labels[n] = labelList.get(n).toString().toCharArray();
+                children[n] = childList.get(n).stream().mapToInt(Integer::intValue).toArray();
+                terminal[n] = terminalList.get(n);
+            }
+        }
+
+        int child(int node, char c) {
+            char[] l = labels[node];
+            for (int k = 0; k < l.length; k++) {
+                if (l[k] == c) return children[node][k];
+            }
+            return -1;
+        }
+
+        boolean isTerminal(int node) {
+            return terminal[node];
+        }
+
+        /**
+         * text[start, end) 가 (소문자로 바꿔서) 등록된 단어와 정확히 같은지
+         */
+        boolean matches(CharSequence text, int start, int end) {
+            int node = 0;
+            for (int i = start; i < end; i++) {
+                node = child(node, Character.toLowerCase(text.charAt(i)));
+                if (node < 0) return false;
+            }
+            return terminal[node];
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package com.gmbbd.checkMate.util;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 글자 n-gram TF-IDF 코사인 유사도로 요구사항별 "가장 비슷한 제출문 문장" 찾기
+ *  - 글자 2-gram / 3-gram 을 해시해서 2^18 차원에 매핑 (조사/어미가 붙어도 앞부분 n-gram 이 겹침: 요구사항을 ↔ 요구사항)
+ *  - 한글은 2-gram 만 사용 (음절 하나가 정보량이 커서 3-gram 은 비용 대비 이득이 적음)
+ *  - IDF 는 요구사항 목록 기준 (여러 요구사항에 공통인 "구현한다" 같은 n-gram 은 가중치가 낮음)
+ *  - 생성 시 요구사항 벡터(TF x IDF)를 CSR 역색인(n-gram → 요구사항 목록)으로 컴파일, 생성 후 읽기 전용
+ *    (요구사항에 나오는 n-gram 만 해시 테이블로 보관하므로 크기는 요구사항 n-gram 수에 비례)
+ *  - score() 는 제출문을 문장 단위 구간으로 나눠 구간마다 역색인으로 내적을 누적
+ *  - 핫 루프는 float[] / int[] 만 사용 (박싱, 부분 문자열 생성 없음)
+ */
+public final class NgramSimilarity {
+
+    private static final int DIMENSION_BITS = 18;
+    private static final int DIMENSION = 1 << DIMENSION_BITS;
+    private static final int MASK = DIMENSION - 1;
+
+    // 문장이 너무 짧으면 다음 문장과 합치고, 너무 길면 공백에서 자름
+    private static final int MIN_SEGMENT_CHARS = 40;
+    private static final int MAX_SEGMENT_CHARS = 400;
+
+    private final int requirementCount;
+
+    // 요구사항에 나오는 n-gram 만 번호(0 ~ featureIds.length - 1)를 붙여 보관 (2^18 차원 전체 배열 대신)
+    // slots: n-gram → 번호 + 1 (0 = 빈 칸) 오픈 어드레싱 해시 테이블, 크기는 n-gram 수의 2배 이상인 2의 거듭제곱
+    private final int[] featureIds;
+    private final int[] slots;
+
+    // CSR: featureIds[i] 를 가진 요구사항 = postingRequirement[offsets[i] .. offsets[i + 1])
+    private final int[] offsets;
+    private final int[] postingRequirement;
+    private final float[] postingWeight;   // 요구사항 쪽 TF x IDF
+
+    private final float[] idf;              // featureIds 와 같은 순서
+    private final float unseenIdf;          // 요구사항에 없는 n-gram 의 IDF (df = 0)
+    private final float[] inverseNorms;     // 요구사항 벡터 크기의 역수 (n-gram 이 없으면 0)
+    private final int[] featureCounts;      // 요구사항별 서로 다른 n-gram 수
+
+    /**
+     * score() 결과 (인덱스 = 생성 시 요구사항 순서)
+     *  - similarity : 가장 비슷한 구간과의 코사인 유사도 (0 ~ 1)
+     *  - matched    : 그 구간에 들어 있는 요구사항 n-gram 수
+     *  - total      : 요구사항의 서로 다른 n-gram 수
+     */
+    public record Scores(float[] similarity, int[] matched, int[] total) {
+    }
+
+    public NgramSimilarity(List<String> requirementTexts) {
+        this.requirementCount = requirementTexts.size();
+        this.featureCounts = new int[requirementCount];
+
+        int[][] features = new int[requirementCount][];
+        float[][] tfs = new float[requirementCount][];
+
+        float[] tf = new float[DIMENSION];
+        int[] touched = new int[64];
+
+        // 1) 요구사항별 n-gram 빈도
+        int totalFeatures = 0;
+        for (int r = 0; r < requirementCount; r++) {
+            String text = requirementTexts.get(r);
+            char[] buf = new char[text == null ? 0 : text.length()];
+            int length = normalize(text, buf, null);
+
+            touched = ensureCapacity(touched, 2 * length);
+            int n = collect(buf, 0, length, tf, touched);
+
+            features[r] = Arrays.copyOf(touched, n);
+            tfs[r] = new float[n];
+            for (int k = 0; k < n; k++) {
+                int f = touched[k];
+                tfs[r][k] = tf[f];
+                tf[f] = 0;
+            }
+            featureCounts[r] = n;
+            totalFeatures += n;
+        }
+
+        // 2) 나온 n-gram 에 등장 순서대로 번호 → n-gram 별 요구사항 수(df) (이후 features 에는 n-gram 대신 번호)
+        slots = new int[Math.max(2, Integer.highestOneBit(Math.max(1, totalFeatures)) << 2)];
+        int[] ids = new int[totalFeatures];
+        int[] counts = new int[totalFeatures + 1];
+        int unique = 0;
+        for (int r = 0; r < requirementCount; r++) {
+            for (int k = 0; k < features[r].length; k++) {
+                int f = features[r][k];
+                int slot = f & (slots.length - 1);
+                while (slots[slot] != 0 && ids[slots[slot] - 1] != f) {
+                    slot = (slot + 1) & (slots.length - 1);
+                }
+                if (slots[slot] == 0) {
+                    ids[unique] = f;
+                    slots[slot] = ++unique;
+                }
+                int i = slots[slot] - 1;
+                features[r][k] = i;
+                counts[i + 1]++;
+            }
+        }
+        featureIds = Arrays.copyOf(ids, unique);
+        counts = Arrays.copyOf(counts, unique + 1);
+
+        // 3) IDF = ln((N + 1) / (df + 1)) + 1
+        idf = new float[unique];
+        for (int i = 0; i < unique; i++) {
+            idf[i] = (float) (Math.log((requirementCount + 1.0) / (counts[i + 1] + 1.0)) + 1.0);
+        }
+        unseenIdf = (float) (Math.log(requirementCount + 1.0) + 1.0);
+
+        // 4) 누적 합 → offsets, 요구사항 순서대로 가중치 채움
+        for (int i = 0; i < unique; i++) {
+            counts[i + 1] += counts[i];
+        }
+        offsets = counts;
+        postingRequirement = new int[offsets[unique]];
+        postingWeight = new float[offsets[unique]];
+        inverseNorms = new float[requirementCount];
+
+        int[] next = Arrays.copyOf(offsets, unique);
+        for (int r = 0; r < requirementCount; r++) {
+            double normSq = 0;
+            for (int k = 0; k < features[r].length; k++) {
+                int i = features[r][k];
+                float w = tfs[r][k] * idf[i];
+                int p = next[i]++;
+                postingRequirement[p] = r;
+                postingWeight[p] = w;
+                normSq += (double) w * w;
+            }
+            inverseNorms[r] = normSq == 0 ? 0 : (float) (1 / Math.sqrt(normSq));
+        }
+    }
+
+    public int size() {
+        return requirementCount;
+    }
+
+    public Scores score(CharSequence text) {
+        float[] best = new float[requirementCount];
+        int[] matched = new int[requirementCount];
+        int[] total = Arrays.copyOf(featureCounts, requirementCount);
+
+        if (text == null || text.length() == 0 || requirementCount == 0) {
+            return new Scores(best, matched, total);
+        }
+
+        // 1) 정규화 + 구간 나누기
+        char[] buf = new char[text.length()];
+        IntList bounds = new IntList();
+        int length = normalize(text, buf, bounds);
+        int[] segments = segment(buf, length, bounds);
+        int segmentCount = segments.length / 2;
+
+        // 2) 구간마다 역색인으로 내적 누적 → 코사인 유사도 최댓값 갱신
+        //    (구간 n-gram 중 요구사항에 없는 것도 구간 벡터 크기에는 포함)
+        float[] tf = new float[DIMENSION];
+        int[] touched = new int[2 * MAX_SEGMENT_CHARS + 2];
+        float[] dot = new float[requirementCount];
+        int[] bestSegment = new int[requirementCount];
+        Arrays.fill(bestSegment, -1);
+
+        for (int s = 0; s < segmentCount; s++) {
+            int start = segments[2 * s];
+            int end = segments[2 * s + 1];
+
+            touched = ensureCapacity(touched, 2 * (end - start));
+            int featureCount = collect(buf, start, end, tf, touched);
+
+            float segmentNormSq = 0;
+            boolean hit = false;
+            for (int k = 0; k < featureCount; k++) {
+                int f = touched[k];
+                int i = indexOf(f);
+                float w = tf[f] * (i >= 0 ? idf[i] : unseenIdf);
+                tf[f] = 0;
+                segmentNormSq += w * w;
+
+                if (i < 0) {
+                    continue;
+                }
+                int to = offsets[i + 1];
+                for (int p = offsets[i]; p < to; p++) {
+                    dot[postingRequirement[p]] += w * postingWeight[p];
+                }
+                hit = true;
+            }
+
+            if (!hit) {
+                continue;
+            }
+            float inverseSegmentNorm = (float) (1 / Math.sqrt(segmentNormSq));
+            for (int r = 0; r < requirementCount; r++) {
+                float d = dot[r];
+                if (d == 0) {
+                    continue;
+                }
+                dot[r] = 0;
+                float similarity = d * inverseSegmentNorm * inverseNorms[r];
+                if (similarity > best[r]) {
+                    best[r] = Math.min(similarity, 1f);
+                    bestSegment[r] = s;
+                }
+            }
+        }
+
+        // 3) 가장 비슷한 구간에 들어 있는 요구사항 n-gram 수 (요구사항마다 한 번만 계산)
+        int[] chosen = Arrays.stream(bestSegment).filter(s -> s >= 0).distinct().toArray();
+        for (int s : chosen) {
+            int start = segments[2 * s];
+            int end = segments[2 * s + 1];
+            touched = ensureCapacity(touched, 2 * (end - start));
+            int featureCount = collect(buf, start, end, tf, touched);
+            for (int k = 0; k < featureCount; k++) {
+                int f = touched[k];
+                tf[f] = 0;
+                int i = indexOf(f);
+                if (i < 0) {
+                    continue;
+                }
+                for (int p = offsets[i]; p < offsets[i + 1]; p++) {
+                    int r = postingRequirement[p];
+                    if (bestSegment[r] == s) {
+                        matched[r]++;
+                    }
+                }
+            }
+        }
+
+        return new Scores(best, matched, total);
+    }
+
+    /**
+     * n-gram 의 번호 (요구사항에 없으면 -1)
+     */
+    private int indexOf(int feature) {
+        int mask = slots.length - 1;
+        for (int slot = feature & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            if (featureIds[slots[slot] - 1] == feature) {
+                return slots[slot] - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 글자/숫자만 남기고 소문자, 나머지는 공백 한 칸으로 → buf 에 기록하고 길이 반환
+     * bounds 가 있으면 문장 끝(. ! ? 줄바꿈) 위치를 기록
+     */
+    private static int normalize(CharSequence text, char[] buf, IntList bounds) {
+        if (text == null) {
+            return 0;
+        }
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                buf[length++] = Character.toLowerCase(c);
+                continue;
+            }
+            if (length > 0 && buf[length - 1] != ' ') {
+                buf[length++] = ' ';
+            }
+            if (bounds != null && (c == '.' || c == '!' || c == '?' || c == '\n' || c == '。')) {
+                bounds.add(length);
+            }
+        }
+        return length;
+    }
+
+    /**
+     * 문장 끝 위치로 [start, end) 구간 목록 생성 (짧은 문장은 합치고 긴 문장은 공백에서 자름)
+     */
+    private static int[] segment(char[] buf, int length, IntList bounds) {
+        IntList segments = new IntList();
+        int start = 0;
+        int b = 0;
+        while (start < length) {
+            int end = start;
+            while (end - start < MIN_SEGMENT_CHARS && end < length) {
+                while (b < bounds.size() && bounds.get(b) <= end) b++;
+                end = (b < bounds.size()) ? bounds.get(b) : length;
+            }
+
+            if (end - start > MAX_SEGMENT_CHARS) {
+                end = start + MAX_SEGMENT_CHARS;
+                int space = end;
+                while (space > start + MIN_SEGMENT_CHARS && buf[space - 1] != ' ') space--;
+                if (space > start + MIN_SEGMENT_CHARS) end = space;
+            }
+
+            segments.add(start);
+            segments.add(end);
+            start = end;
+        }
+        return segments.toArray();
+    }
+
+    /**
+     * [start, end) 의 n-gram 빈도를 tf 에 누적하고 처음 나온 n-gram 을 touched 에 기록 (개수 반환)
+     */
+    private static int collect(char[] buf, int start, int end, float[] tf, int[] touched) {
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            for (int n = 2; n <= 3; n++) {
+                int f = feature(buf, i, n, end);
+                if (f < 0) continue;
+                if (tf[f] == 0) {
+                    touched[count++] = f;
+                }
+                tf[f]++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * buf[i, i + n) 의 해시
+     * 구간을 넘거나 공백이 들어 있거나 한글 3-gram 이면 -1
+     */
+    private static int feature(char[] buf, int i, int n, int end) {
+        if (i + n > end || buf[i] == ' ' || buf[i + 1] == ' ') {
+            return -1;
+        }
+        if (n == 3 && (buf[i + 2] == ' ' || isHangul(buf[i]))) {
+            return -1;
+        }
+        int h = n * 0x9E3779B9;
+        for (int k = i; k < i + n; k++) {
+            h = (h ^ buf[k]) * 0x01000193;
+        }
+        h ^= h >>> 15;
+        return h & MASK;
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '\uAC00' && c <= '\uD7A3';
+    }
+
+    private static int[] ensureCapacity(int[] array, int size) {
+        return array.length >= size ? array : new int[Math.max(size, array.length * 2)];
+    }
+
+    /**
+     * 박싱 없는 int 가변 배열
+     */
+    private static final class IntList {
+        private int[] values = new int[64];
+        private int size;
+
+        void add(int v) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = v;
+        }
+
+        int get(int i) {
+            return values[i];
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.gmbbd.checkMate.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {{이름}} 자리표시자를 가진 프롬프트 템플릿
+ *  - 생성 시 한 번만 고정 문자열 / 자리표시자 조각으로 나눠 둠
+ *  - render() 는 조각을 순서대로 이어 붙이기만 함 (String.format 처럼 % 를 이스케이프할 필요 없음)
+ */
+public final class PromptTemplate {
+
+    private final String[] literals;       // literals[i] 다음에 names[i] 값이 옴 (마지막 literal 뒤에는 없음)
+    private final String[] names;
+    private final int literalLength;
+
+    public PromptTemplate(String template) {
+        List<String> literalList = new ArrayList<>();
+        List<String> nameList = new ArrayList<>();
+
+        int pos = 0;
+        while (true) {
+            int open = template.indexOf("{{", pos);
+            int close = (open < 0) ? -1 : template.indexOf("}}", open + 2);
+            if (close < 0) {
+                literalList.add(template.substring(pos));
+                break;
+            }
+            literalList.add(template.substring(pos, open));
+            nameList.add(template.substring(open + 2, close).trim());
+            pos = close + 2;
+        }
+
+        this.literals = literalList.toArray(new String[0]);
+        this.names = nameList.toArray(new String[0]);
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public List<String> getNames() {
+        return List.of(names);
+    }
+
+    /**
+     * 자리표시자를 values 로 채움 (값이 없는 자리표시자가 있으면 IllegalArgumentException)
+     */
+    public String render(Map<String, String> values) {
+        int length = literalLength;
+        String[] filled = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            filled[i] = values.get(names[i]);
+            if (filled[i] == null) {
+                throw new IllegalArgumentException("프롬프트 템플릿 값이 없습니다: " + names[i]);
+            }
+            length += filled[i].length();
+        }
+
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < names.length; i++) {
+            sb.append(literals[i]).append(filled[i]);
+        }
+        sb.append(literals[literals.length - 1]);
+        return sb.toString();
+    }
+}
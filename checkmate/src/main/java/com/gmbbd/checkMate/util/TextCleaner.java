@@ -2,33 +2,72 @@ package com.gmbbd.checkMate.util;
 
 import org.springframework.stereotype.Component;
 
+/**
+ * 추출된 문서 텍스트 정제
+ *  - 글자(L), 숫자(N), 구두점(P), 공백 문자(Z), 개행(\n)만 남김 (탭, CR 등 제어 문자는 제거)
+ *  - 연속 공백 → 한 칸, 연속 개행 → 한 줄
+ *  - 양 끝 공백/개행 제거
+ *  코드 포인트 단위로 한 번만 훑고 버퍼 하나에만 씀 (예전 정규식 3단계와 결과 동일)
+ */
 @Component
 public class TextCleaner {
 
+    // 남길 Character.getType() 분류들의 비트 마스크
+    private static final int ALLOWED_TYPES =
+            (1 << Character.UPPERCASE_LETTER)
+                    | (1 << Character.LOWERCASE_LETTER)
+                    | (1 << Character.TITLECASE_LETTER)
+                    | (1 << Character.MODIFIER_LETTER)
+                    | (1 << Character.OTHER_LETTER)
+                    | (1 << Character.DECIMAL_DIGIT_NUMBER)
+                    | (1 << Character.LETTER_NUMBER)
+                    | (1 << Character.OTHER_NUMBER)
+                    | (1 << Character.CONNECTOR_PUNCTUATION)
+                    | (1 << Character.DASH_PUNCTUATION)
+                    | (1 << Character.START_PUNCTUATION)
+                    | (1 << Character.END_PUNCTUATION)
+                    | (1 << Character.INITIAL_QUOTE_PUNCTUATION)
+                    | (1 << Character.FINAL_QUOTE_PUNCTUATION)
+                    | (1 << Character.OTHER_PUNCTUATION)
+                    | (1 << Character.SPACE_SEPARATOR)
+                    | (1 << Character.LINE_SEPARATOR)
+                    | (1 << Character.PARAGRAPH_SEPARATOR);
+
     public String clean(String raw) {
         if (raw == null) return "";
 
-        String text = raw;
+        StringBuilder sb = new StringBuilder(raw.length());
+        int last = 0;    // 마지막으로 쓴 코드 포인트 (연속 공백/개행 판단용, char 로 줄이면 보조 문자가 공백/개행처럼 보임)
 
-        text = removeBrokenCharacters(text);
-        text = normalizeWhitespace(text);
-        text = unifyNewlines(text);
+        int i = 0;
+        while (i < raw.length()) {
+            int cp = raw.codePointAt(i);
+            i += Character.charCount(cp);
 
-        return text.trim();
-    }
+            if (cp == '\n') {
+                // 맨 앞 개행, 연속 개행은 버림
+                if (sb.length() == 0 || last == '\n') continue;
 
-    private String removeBrokenCharacters(String s) {
-        // 글자(문자), 숫자, 구두점, 공백, 개행만 허용
-        return s.replaceAll("[^\\p{L}\\p{N}\\p{P}\\p{Z}\\n]", "");
-    }
+            } else if (cp == ' ') {
+                // 맨 앞 공백, 연속 공백은 버림
+                if (sb.length() == 0 || last == ' ') continue;
 
-    private String normalizeWhitespace(String s) {
-        // 연속 공백/탭 → 한 칸
-        return s.replaceAll("[ \\t]{2,}", " ");
-    }
+            } else if ((ALLOWED_TYPES & (1 << Character.getType(cp))) == 0) {
+                // 깨진 문자/제어 문자는 버림 (앞뒤 공백이 이어지면 한 칸으로 합쳐짐)
+                continue;
+            }
+
+            sb.appendCodePoint(cp);
+            last = cp;
+        }
+
+        // 끝쪽 공백/개행 제거
+        int end = sb.length();
+        while (end > 0 && (sb.charAt(end - 1) == ' ' || sb.charAt(end - 1) == '\n')) {
+            end--;
+        }
+        sb.setLength(end);
 
-    private String unifyNewlines(String s) {
-        // CRLF/CR → LF
-        return s.replaceAll("[\\r\\n]+", "\n");
+        return sb.toString();
     }
 }
@@ -0,0 +1,116 @@
+package com.gmbbd.checkMate.util;
+
+import java.util.Locale;
+
+/**
+ * 비교/프롬프트용 텍스트 정규화 (정규식 없이 한 번만 훑음)
+ *  - collapseWhitespace : 연속 공백 문자 → 한 칸 + 양 끝 정리 (LLM 프롬프트, 캐시 키)
+ *  - normalizeForCompare: 글자/숫자/공백만 남기고 소문자 + 공백 정리 (키워드 비교)
+ *  결과는 각각 예전 replaceAll 구현과 동일
+ */
+public final class TextNormalizer {
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * text.replaceAll("\\s+", " ").trim() 과 같은 결과
+     */
+    public static String collapseWhitespace(String text) {
+        if (text == null) return "";
+
+        // trim 과 같은 기준(<= ' ')으로 양 끝을 먼저 잘라도 결과는 같음
+        int start = 0;
+        int end = text.length();
+        while (start < end && text.charAt(start) <= ' ') start++;
+        while (end > start && text.charAt(end - 1) <= ' ') end--;
+
+        StringBuilder sb = null;
+        boolean inSpace = false;
+
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+
+            if (isSpace(c)) {
+                // 바꿀 필요가 있는 첫 위치에서만 버퍼 생성
+                if (sb == null && (c != ' ' || isSpace(text.charAt(i + 1)))) {
+                    sb = new StringBuilder(end - start).append(text, start, i);
+                }
+                if (sb != null && !inSpace) {
+                    sb.append(' ');
+                }
+                inSpace = true;
+                continue;
+            }
+
+            inSpace = false;
+            if (sb != null) {
+                sb.append(c);
+            }
+        }
+
+        if (sb == null) {
+            return text.substring(start, end);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * text.replaceAll("[^\\p{IsAlphabetic}\\p{IsDigit}\\s]", " ")
+     *     .toLowerCase(Locale.ROOT).replaceAll("\\s+", " ").trim() 과 같은 결과
+     */
+    public static String normalizeForCompare(String text) {
+        if (text == null) return "";
+
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+
+        int i = 0;
+        while (i < text.length()) {
+            int cp = text.codePointAt(i);
+            i += Character.charCount(cp);
+
+            if (!Character.isAlphabetic(cp) && !Character.isDigit(cp)) {
+                // 공백 문자든 특수문자든 한 칸으로 (맨 앞은 버림)
+                pendingSpace = sb.length() > 0;
+                continue;
+            }
+
+            if (cp == 'İ' || cp == 'Σ') {
+                // 문맥에 따라 소문자가 달라지는 글자(İ, 어말 Σ)는 String.toLowerCase 에 맡김
+                return normalizeForCompareSlow(text);
+            }
+
+            if (pendingSpace) {
+                sb.append(' ');
+                pendingSpace = false;
+            }
+            sb.appendCodePoint(Character.toLowerCase(cp));
+        }
+
+        return sb.toString();
+    }
+
+    private static String normalizeForCompareSlow(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        int i = 0;
+        while (i < text.length()) {
+            int cp = text.codePointAt(i);
+            i += Character.charCount(cp);
+
+            if (Character.isAlphabetic(cp) || Character.isDigit(cp)) {
+                sb.appendCodePoint(cp);
+            } else {
+                sb.append(' ');
+            }
+        }
+        return collapseWhitespace(sb.toString().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * 정규식 \s 와 같은 공백 문자 ([ \t\n\x0B\f\r])
+     */
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
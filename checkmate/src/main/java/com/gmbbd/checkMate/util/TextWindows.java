@@ -0,0 +1,85 @@
+package com.gmbbd.checkMate.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * 토큰 예산을 넘는 텍스트를 예산 안에 들어가는 겹치는 구간들로 나눔
+ *  - 구간 경계는 가능하면 공백 위치 (단어가 잘리지 않도록)
+ *  - 다음 구간은 overlapTokens 만큼 앞 구간 끝과 겹쳐서 시작 (경계에 걸친 문장도 한 구간에는 온전히 들어가도록)
+ *  - 토큰 수는 주어진 counter 로 세고, 글자/토큰 비율로 구간 길이를 어림한 뒤 넘치면 줄임
+ */
+public final class TextWindows {
+
+    private TextWindows() {
+    }
+
+    public static List<String> split(String text, int maxTokens, int overlapTokens, ToIntFunction<String> counter) {
+        if (maxTokens <= 0) {
+            throw new IllegalArgumentException("maxTokens 는 1 이상이어야 합니다.");
+        }
+
+        int total = counter.applyAsInt(text);
+        if (total <= maxTokens) {
+            return List.of(text);
+        }
+
+        double charsPerToken = (double) text.length() / total;
+        int overlapChars = (int) (Math.min(overlapTokens, maxTokens / 2) * charsPerToken);
+
+        List<String> windows = new ArrayList<>();
+        int start = 0;
+        while (start < text.length()) {
+            int length = Math.max(1, (int) (maxTokens * charsPerToken));
+            int end;
+            while (true) {
+                end = findBreak(text, start, Math.min(text.length(), start + length));
+                if (end - start <= 1 || counter.applyAsInt(text.substring(start, end)) <= maxTokens) {
+                    break;
+                }
+                length = Math.max(1, (int) ((end - start) * 0.9));
+            }
+
+            String window = text.substring(start, end).trim();
+            if (!window.isEmpty()) {
+                windows.add(window);
+            }
+            if (end >= text.length()) {
+                break;
+            }
+            start = alignStart(text, Math.max(start + 1, end - overlapChars), end);
+        }
+        return windows;
+    }
+
+    /**
+     * end 이전의 가장 가까운 공백 (구간 뒤쪽 절반 안에 없으면 end, 서로게이트 쌍은 자르지 않음)
+     */
+    private static int findBreak(String text, int start, int end) {
+        if (end >= text.length()) {
+            return text.length();
+        }
+        int minEnd = start + (end - start) / 2;
+        for (int i = end; i > minEnd; i--) {
+            if (Character.isWhitespace(text.charAt(i - 1))) return i;
+        }
+        if (end - start > 1 && Character.isLowSurrogate(text.charAt(end))) {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * 다음 구간 시작을 가능하면 단어 시작으로 맞춤
+     */
+    private static int alignStart(String text, int start, int limit) {
+        for (int i = start; i < limit; i++) {
+            if (Character.isWhitespace(text.charAt(i - 1))) return i;
+        }
+        if (Character.isLowSurrogate(text.charAt(start)) && start + 1 < limit) {
+            start++;
+        }
+        return start;
+    }
+}
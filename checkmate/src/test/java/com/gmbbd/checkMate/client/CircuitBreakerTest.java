@@ -0,0 +1,30 @@
+package com.gmbbd.checkMate.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CircuitBreaker 단위 테스트
+ */
+class CircuitBreakerTest {
+
+    @Test
+    void onFailure_opensAfterThreshold_andAllowsSingleTrial() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker(2, 50);
+
+        breaker.onFailure();
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+
+        Thread.sleep(80);
+        assertTrue(breaker.tryAcquire());      // 시험 호출 1건
+        assertFalse(breaker.tryAcquire());
+        breaker.onSuccess();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+}
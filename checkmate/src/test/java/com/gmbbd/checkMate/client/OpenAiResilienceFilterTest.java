@@ -0,0 +1,110 @@
+package com.gmbbd.checkMate.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OpenAiResilienceFilter 단위 테스트
+ * 서킷 브레이커 시험 호출이 취소돼도 브레이커가 HALF_OPEN 에 갇히지 않는지,
+ * 한도 대기 중에는 시험 자리를 붙잡지 않는지 확인
+ */
+class OpenAiResilienceFilterTest {
+
+    private final ClientRequest request =
+            ClientRequest.create(HttpMethod.POST, URI.create("http://localhost/v1/chat/completions")).build();
+
+    @Test
+    void filter_cancelledTrial_releasesBreaker() {
+        CircuitBreaker breaker = halfOpenBreaker();
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeFunction hanging = req -> {
+            calls.incrementAndGet();
+            return Mono.never();
+        };
+        OpenAiResilienceFilter filter = filter(breaker);
+
+        // when: 시험 호출 중에 구독 취소 (클라이언트 연결 끊김 등)
+        Disposable trial = filter.filter(request, hanging).subscribe();
+        assertEquals(1, calls.get());
+        assertFalse(breaker.tryAcquire(), "시험 호출이 진행 중이면 다른 호출은 막혀야 한다.");
+        trial.dispose();
+
+        // then: 다음 호출이 다시 시험 호출이 될 수 있어야 한다.
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertEquals(CircuitBreaker.Permit.TRIAL, breaker.acquire());
+    }
+
+    @Test
+    void filter_cancelledWhileWaitingForRateLimit_releasesBreaker() {
+        CircuitBreaker breaker = halfOpenBreaker();
+        RateLimitTracker tracker = new RateLimitTracker(5, 20_000);
+        tracker.update(429, headers("retry-after-ms", "60000"));
+        OpenAiResilienceFilter filter = new OpenAiResilienceFilter(tracker, breaker, 0,
+                Duration.ofMillis(1), Duration.ofMillis(1));
+
+        // when: 한도 대기(Mono.delay) 중에 취소
+        Disposable trial = filter.filter(request, req -> Mono.never()).subscribe();
+        trial.dispose();
+
+        // then
+        assertEquals(CircuitBreaker.Permit.TRIAL, breaker.acquire());
+    }
+
+    @Test
+    void filter_waitingForRateLimit_acquiresPermitAfterDelay() throws Exception {
+        CircuitBreaker breaker = halfOpenBreaker();
+        RateLimitTracker tracker = new RateLimitTracker(5, 20_000);
+        tracker.update(429, headers("retry-after-ms", "300"));
+        AtomicInteger calls = new AtomicInteger();
+        OpenAiResilienceFilter filter = new OpenAiResilienceFilter(tracker, breaker, 0,
+                Duration.ofMillis(1), Duration.ofMillis(1));
+
+        // when: 한도 대기 중
+        Disposable trial = filter.filter(request, req -> {
+            calls.incrementAndGet();
+            return Mono.never();
+        }).subscribe();
+
+        // then: 대기 중에는 시험 자리를 붙잡지 않음 (다른 호출이 받아 갔다가 반납)
+        assertEquals(0, calls.get());
+        assertEquals(CircuitBreaker.Permit.TRIAL, breaker.acquire());
+        breaker.releaseTrial();
+
+        // 대기가 끝나면 시험 호출로 진행하고, 그동안 다른 호출은 막힘
+        long deadline = System.currentTimeMillis() + 5000;
+        while (calls.get() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, calls.get());
+        assertFalse(breaker.tryAcquire());
+        trial.dispose();
+    }
+
+    private static CircuitBreaker halfOpenBreaker() {
+        CircuitBreaker breaker = new CircuitBreaker(1, 0);
+        breaker.onFailure();
+        return breaker;
+    }
+
+    private static OpenAiResilienceFilter filter(CircuitBreaker breaker) {
+        return new OpenAiResilienceFilter(new RateLimitTracker(5, 20_000), breaker, 0,
+                Duration.ofMillis(1), Duration.ofMillis(1));
+    }
+
+    private static HttpHeaders headers(String name, String value) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(name, value);
+        return headers;
+    }
+}
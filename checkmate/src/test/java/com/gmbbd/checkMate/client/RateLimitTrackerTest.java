@@ -0,0 +1,94 @@
+package com.gmbbd.checkMate.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RateLimitTracker 단위 테스트
+ */
+class RateLimitTrackerTest {
+
+    @Test
+    void parseDuration_openAiResetFormats() {
+        assertEquals(Duration.ofMillis(20), RateLimitTracker.parseDuration("20ms"));
+        assertEquals(Duration.ofSeconds(1), RateLimitTracker.parseDuration("1s"));
+        assertEquals(Duration.ofMinutes(6), RateLimitTracker.parseDuration("6m0s"));
+        assertEquals(Duration.ofMillis(3_723_500), RateLimitTracker.parseDuration("1h2m3.5s"));
+        assertNull(RateLimitTracker.parseDuration("soon"));
+    }
+
+    @Test
+    void update_plentyRemaining_noDelay() {
+        RateLimitTracker tracker = new RateLimitTracker(5, 20_000);
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("x-ratelimit-remaining-requests", "499");
+        headers.add("x-ratelimit-reset-requests", "120ms");
+
+        tracker.update(200, headers);
+
+        assertEquals(Duration.ZERO, tracker.delayBeforeRequest());
+    }
+
+    @Test
+    void update_lowRemaining_spreadsUntilReset() {
+        RateLimitTracker tracker = new RateLimitTracker(5, 20_000);
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("x-ratelimit-remaining-tokens", "0");
+        headers.add("x-ratelimit-reset-tokens", "10s");
+
+        tracker.update(200, headers);
+
+        long delay = tracker.delayBeforeRequest().toMillis();
+        assertTrue(delay > 9_000 && delay <= 10_000, "delay=" + delay);
+    }
+
+    @Test
+    void delayBeforeRequest_lowRemaining_reservesSeparateSlots() {
+        RateLimitTracker tracker = new RateLimitTracker(5, 20_000);
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("x-ratelimit-remaining-requests", "3");
+        headers.add("x-ratelimit-reset-requests", "4s");
+
+        tracker.update(200, headers);
+
+        // 응답을 받기 전에 연달아 물어본 호출들은 같은 시각이 아니라 한 칸씩 뒤로 예약
+        long first = tracker.delayBeforeRequest().toMillis();
+        long second = tracker.delayBeforeRequest().toMillis();
+        long third = tracker.delayBeforeRequest().toMillis();
+        assertTrue(first > 900 && first <= 1_000, "first=" + first);
+        assertTrue(second - first >= 900, "second=" + second);
+        assertTrue(third - second >= 900, "third=" + third);
+    }
+
+    @Test
+    void update_tokensBelowTokenWatermark_usesOwnWatermark() {
+        RateLimitTracker tracker = new RateLimitTracker(5, 20_000);
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("x-ratelimit-remaining-requests", "100");
+        headers.add("x-ratelimit-reset-requests", "10s");
+        headers.add("x-ratelimit-remaining-tokens", "10000");
+        headers.add("x-ratelimit-reset-tokens", "10s");
+
+        tracker.update(200, headers);
+
+        // 요청 수는 여유 있지만 토큰이 watermark 의 절반만 남음 → 초기화까지 시간의 절반 정도
+        long delay = tracker.delayBeforeRequest().toMillis();
+        assertTrue(delay > 4_000 && delay <= 5_000, "delay=" + delay);
+    }
+
+    @Test
+    void update_429_waitsRetryAfter() {
+        RateLimitTracker tracker = new RateLimitTracker(5, 20_000);
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("retry-after", "2");
+
+        tracker.update(429, headers);
+
+        long delay = tracker.delayBeforeRequest().toMillis();
+        assertTrue(delay > 1_000 && delay <= 2_000, "delay=" + delay);
+    }
+}
@@ -0,0 +1,31 @@
+package com.gmbbd.checkMate.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReportController 단위 테스트
+ * Accept-Encoding 의 q 값에 따른 gzip 허용 여부 확인
+ */
+class ReportControllerTest {
+
+    @Test
+    void acceptsGzip_listedOrWildcard() {
+        assertTrue(ReportController.acceptsGzip("gzip"));
+        assertTrue(ReportController.acceptsGzip("deflate, GZIP;q=0.5"));
+        assertTrue(ReportController.acceptsGzip("br, *;q=0.1"));
+        assertTrue(ReportController.acceptsGzip("x-gzip"));
+    }
+
+    @Test
+    void acceptsGzip_zeroQualityOrMissing_rejected() {
+        assertFalse(ReportController.acceptsGzip(null));
+        assertFalse(ReportController.acceptsGzip("identity"));
+        assertFalse(ReportController.acceptsGzip("gzip;q=0"));
+        assertFalse(ReportController.acceptsGzip("gzip; q=0.000, deflate"));
+        assertFalse(ReportController.acceptsGzip("*, gzip;q=0"));
+        assertFalse(ReportController.acceptsGzip("*;q=0"));
+        assertFalse(ReportController.acceptsGzip("gzip;q=abc"));
+    }
+}
@@ -0,0 +1,33 @@
+package com.gmbbd.checkMate.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * ParsedDocument.pageOf 단위 테스트
+ */
+class ParsedDocumentTest {
+
+    @Test
+    void pageOf_basicCase() {
+        // 1페이지 "abc", 2페이지 "de", 3페이지 "fgh"  → "abc\nde\nfgh"
+        ParsedDocument doc = new ParsedDocument("abc\nde\nfgh", new int[]{0, 4, 7});
+
+        assertEquals(1, doc.pageOf(0));
+        assertEquals(1, doc.pageOf(3));
+        assertEquals(2, doc.pageOf(4));
+        assertEquals(2, doc.pageOf(6));
+        assertEquals(3, doc.pageOf(7));
+        assertEquals(3, doc.pageOf(10));
+    }
+
+    @Test
+    void pageOf_emptyPage_belongsToNextPage() {
+        // 2페이지가 비어 있어서 3페이지와 시작 위치가 같음
+        ParsedDocument doc = new ParsedDocument("abc\nfgh", new int[]{0, 4, 4});
+
+        assertEquals(1, doc.pageOf(2));
+        assertEquals(3, doc.pageOf(4));
+    }
+}
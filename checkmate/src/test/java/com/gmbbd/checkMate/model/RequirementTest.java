@@ -0,0 +1,49 @@
+package com.gmbbd.checkMate.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Requirement.promptText 단위 테스트
+ * 공백 정리 결과, 원문 변경 시 다시 계산, equals / JSON 응답에서 제외되는지 확인
+ */
+class RequirementTest {
+
+    @Test
+    void promptText_collapsesWhitespaceAndFollowsRawText() {
+        Requirement req = new Requirement(1L, "  ERD 를\n\t포함하시오.  ");
+
+        assertEquals("ERD 를 포함하시오.", req.getPromptText());
+
+        // when
+        req.setRawText("로그인   기능");
+
+        // then
+        assertEquals("로그인 기능", req.getPromptText());
+    }
+
+    @Test
+    void promptText_notPartOfEqualsOrJson() throws Exception {
+        Requirement computed = new Requirement(1L, "ERD  를 포함하시오.");
+        computed.getPromptText();
+
+        assertEquals(new Requirement(1L, "ERD  를 포함하시오."), computed);
+        assertFalse(new ObjectMapper().writeValueAsString(computed).contains("promptText"));
+    }
+
+    @Test
+    void requirementSet_precomputesPromptText() {
+        Requirement req = new Requirement(1L, "ERD  를 포함하시오.");
+
+        // when
+        new RequirementSet("id", "req.txt", List.of(req), null);
+
+        // then: 등록 시 이미 계산되어 있음
+        assertEquals("ERD 를 포함하시오.", ReflectionTestUtils.getField(req, "promptText"));
+    }
+}
@@ -0,0 +1,149 @@
+package com.gmbbd.checkMate.service;
+
+import com.gmbbd.checkMate.metrics.StageMetrics;
+import com.gmbbd.checkMate.model.EvaluationResult;
+import com.gmbbd.checkMate.model.Requirement;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AnalysisService 단위 테스트
+ * hybrid 모드의 키워드/LLM 분기, group-by-parent 에서 LLM 호출 묶음 구성과 결과의 상위 항목 번호 확인
+ */
+class AnalysisServiceTest {
+
+    /**
+     * 호출마다 받은 요구사항 번호를 기록하고 모두 FULFILLED 로 응답하는 LlmService
+     */
+    private static class RecordingLlmService implements LlmService {
+
+        final List<List<Long>> calls = Collections.synchronizedList(new ArrayList<>());
+        private final List<Requirement> requirements;
+
+        RecordingLlmService(List<Requirement> requirements) {
+            this.requirements = requirements;
+        }
+
+        @Override
+        public EvaluationResult evaluateRequirement(String requirementText, String documentText) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Mono<EvaluationResult> evaluateRequirementAsync(String requirementText, String documentText) {
+            Requirement req = requirements.stream()
+                    .filter(r -> r.getRawText().equals(requirementText))
+                    .findFirst()
+                    .orElseThrow();
+            calls.add(List.of(req.getId()));
+            return Mono.just(fulfilled(null));
+        }
+
+        @Override
+        public Mono<List<EvaluationResult>> evaluateRequirementsAsync(List<Requirement> batch, String documentText) {
+            List<Long> ids = new ArrayList<>();
+            List<EvaluationResult> results = new ArrayList<>();
+            for (Requirement req : batch) {
+                ids.add(req.getId());
+                results.add(fulfilled(req.getId()));
+            }
+            calls.add(ids);
+            return Mono.just(results);
+        }
+
+        private static EvaluationResult fulfilled(Long requirementId) {
+            EvaluationResult r = new EvaluationResult();
+            r.setRequirementId(requirementId);
+            r.setStatus("FULFILLED");
+            r.setScore(1.0);
+            return r;
+        }
+    }
+
+    private static AnalysisService groupingService(LlmService llmService, int groupMaxSize) {
+        AnalysisService service = new AnalysisService(null, null, new RequirementService(), llmService,
+                new RetrievalService(), new CompareService(), new StageMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(service, "mode", "llm");
+        ReflectionTestUtils.setField(service, "maxConcurrency", 1);
+        ReflectionTestUtils.setField(service, "batchSize", 1);
+        ReflectionTestUtils.setField(service, "groupByParent", true);
+        ReflectionTestUtils.setField(service, "groupMaxSize", groupMaxSize);
+        return service;
+    }
+
+    @Test
+    void evaluate_hybridTfidf_followsSimilarityDecision() {
+        List<Requirement> requirements = List.of(
+                new Requirement(1L, "ERD 로 테이블 관계를 정리하시오."),
+                new Requirement(2L, "시스템 개요를 설명하시오."),
+                new Requirement(3L, "요구분석 방법론을 두 가지 이상 기술하시오."));
+        String submission = "본 보고서는 시스템 개요를 설명한다. 시스템 개요를 설명하면 다음과 같다. "
+                + "데이터 구조는 ERD 로 정리했고 테이블 간 관계와 키 구성, 정규화 과정, 인덱스 설계, "
+                + "트랜잭션 처리 방식, 백업 정책과 운영 환경 구성까지 함께 다루었으며 각 항목은 부록에 자세히 적었다.";
+
+        CompareService compareService = new CompareService();
+        ReflectionTestUtils.setField(compareService, "engine", "tfidf");
+        ReflectionTestUtils.setField(compareService, "fulfilledSimilarity", 0.3);
+        ReflectionTestUtils.setField(compareService, "partialSimilarity", 0.1);
+
+        RecordingLlmService llm = new RecordingLlmService(requirements);
+        AnalysisService service = new AnalysisService(null, null, new RequirementService(), llm,
+                new RetrievalService(), compareService, new StageMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(service, "mode", "hybrid");
+        ReflectionTestUtils.setField(service, "maxConcurrency", 1);
+        ReflectionTestUtils.setField(service, "batchSize", 1);
+        ReflectionTestUtils.setField(service, "hybridFulfilledRatio", 0.9);
+        ReflectionTestUtils.setField(service, "hybridNotFulfilledRatio", 0.1);
+
+        // when
+        List<EvaluationResult> results = service.evaluate(requirements, submission);
+
+        // then: n-gram 일치 비율(2번은 0.9 미만)이 아니라 유사도 판정을 따름 → PARTIAL 인 1번만 LLM
+        assertEquals(List.of(List.of(1L)), llm.calls);
+        assertEquals("LLM", results.get(0).getDecidedBy());
+        assertEquals("KEYWORD", results.get(1).getDecidedBy());
+        assertEquals("FULFILLED", results.get(1).getStatus());
+        assertTrue(results.get(1).getMatchedKeywordCount() < 0.9 * results.get(1).getTotalKeywordCount());
+        assertEquals("KEYWORD", results.get(2).getDecidedBy());
+        assertEquals("NOT_FULFILLED", results.get(2).getStatus());
+    }
+
+    @Test
+    void evaluate_groupByParent_batchesPerRootAndSetsParentId() {
+        String reqText = """
+                1. 회원 관리 기능
+                1.1 회원가입 기능을 구현하시오.
+                1.2 로그인 기능을 구현하시오.
+                  - 소셜 로그인을 지원하시오.
+                2. 게시판 기능
+                2.1 글쓰기 기능을 구현하시오.
+                """;
+        List<Requirement> requirements = new RequirementService().extractRequirements(reqText);
+        RecordingLlmService llm = new RecordingLlmService(requirements);
+
+        // when: 한 묶음 최대 3개
+        List<EvaluationResult> results = groupingService(llm, 3).evaluate(requirements, "제출문");
+
+        // then: 최상위 항목별로 묶고, 넘치는 항목은 같은 최상위 항목 안에서 다음 호출로
+        assertEquals(List.of(List.of(1L, 2L, 3L), List.of(4L), List.of(5L, 6L)), llm.calls);
+
+        // 결과는 번호 순, 상위 항목 번호는 묶음과 관계없이 요구사항 계층 그대로
+        assertEquals(6, results.size());
+        assertNull(results.get(0).getParentRequirementId());
+        assertEquals(1L, results.get(1).getParentRequirementId());
+        assertEquals(1L, results.get(2).getParentRequirementId());
+        assertEquals(4L, results.get(3).getRequirementId());
+        assertEquals(3L, results.get(3).getParentRequirementId());
+        assertNull(results.get(4).getParentRequirementId());
+        assertEquals(5L, results.get(5).getParentRequirementId());
+        assertTrue(results.stream().allMatch(r -> "LLM".equals(r.getDecidedBy())));
+    }
+}
@@ -0,0 +1,164 @@
+package com.gmbbd.checkMate.service;
+
+import com.gmbbd.checkMate.exception.ApiException;
+import com.gmbbd.checkMate.metrics.StageMetrics;
+import com.gmbbd.checkMate.model.BulkResponse;
+import com.gmbbd.checkMate.model.Requirement;
+import com.gmbbd.checkMate.model.RequirementSet;
+import com.gmbbd.checkMate.util.TextCleaner;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BulkService 단위 테스트
+ * ZIP 을 다 풀어 두지 않고 pipeline-depth 만큼만 읽어 들이는지, ZIP 항목 수 제한 확인
+ */
+class BulkServiceTest {
+
+    private static final int FILE_BYTES = 20_000;
+
+    private final ForkJoinPool pdfPool = new ForkJoinPool(1);
+    private final ExecutorService parseExecutor = Executors.newFixedThreadPool(2);
+    private final CountDownLatch evaluationGate = new CountDownLatch(1);
+
+    // 평가 단계는 evaluationGate 가 열릴 때까지 시작하지 않음
+    private final ThreadPoolExecutor evaluationExecutor = new ThreadPoolExecutor(
+            1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()) {
+        @Override
+        protected void beforeExecute(Thread t, Runnable r) {
+            try {
+                evaluationGate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    };
+
+    @AfterEach
+    void shutdown() {
+        evaluationGate.countDown();
+        pdfPool.shutdown();
+        parseExecutor.shutdown();
+        evaluationExecutor.shutdown();
+    }
+
+    /**
+     * 압축하지 않은(STORED 와 비슷한 크기의) 임의 텍스트 파일들로 ZIP 생성
+     */
+    private static byte[] zip(int fileCount, int extraEntries) throws IOException {
+        Random random = new Random(1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zos = new ZipOutputStream(out)) {
+            zos.setLevel(0);
+            for (int i = 0; i < fileCount; i++) {
+                StringBuilder sb = new StringBuilder("ERD 를 포함한 제출물 ");
+                while (sb.length() < FILE_BYTES) {
+                    sb.append((char) ('a' + random.nextInt(26)));
+                }
+                zos.putNextEntry(new ZipEntry("student" + i + ".txt"));
+                zos.write(sb.toString().getBytes(StandardCharsets.UTF_8));
+                zos.closeEntry();
+            }
+            for (int i = 0; i < extraEntries; i++) {
+                zos.putNextEntry(new ZipEntry("dir" + i + "/"));
+                zos.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 읽은 바이트 수를 세는 업로드 파일
+     */
+    private static MockMultipartFile countingZip(byte[] content, AtomicLong read) {
+        return new MockMultipartFile("submissions", "submissions.zip", "application/zip", content) {
+            @Override
+            public InputStream getInputStream() {
+                return new FilterInputStream(new ByteArrayInputStream(content)) {
+                    @Override
+                    public int read(byte[] b, int off, int len) throws IOException {
+                        int n = super.read(b, off, len);
+                        if (n > 0) {
+                            read.addAndGet(n);
+                        }
+                        return n;
+                    }
+                };
+            }
+        };
+    }
+
+    private BulkService bulkService(int pipelineDepth, int maxEntries) {
+        StageMetrics stageMetrics = new StageMetrics(new SimpleMeterRegistry());
+        ParseService parseService = new ParseService(new TextCleaner(), new ParsedTextCache(), pdfPool, stageMetrics);
+        AnalysisService analysisService = new AnalysisService(null, parseService, new RequirementService(), null,
+                new RetrievalService(), new CompareService(), stageMetrics);
+        ReflectionTestUtils.setField(analysisService, "mode", "keyword");
+
+        BulkService service = new BulkService(parseService, analysisService, parseExecutor, evaluationExecutor);
+        ReflectionTestUtils.setField(service, "maxFiles", 300);
+        ReflectionTestUtils.setField(service, "maxEntries", maxEntries);
+        ReflectionTestUtils.setField(service, "maxTotalBytes", 104857600L);
+        ReflectionTestUtils.setField(service, "pipelineDepth", pipelineDepth);
+        return service;
+    }
+
+    private static RequirementSet requirementSet() {
+        List<Requirement> requirements = List.of(new Requirement(1L, "ERD 를 포함하시오."));
+        return new RequirementSet("set", "req.txt", requirements, new CompareService().compile(requirements));
+    }
+
+    @Test
+    void grade_readsZipOnlyAsFarAsPipelineDepth() throws Exception {
+        AtomicLong read = new AtomicLong();
+        MockMultipartFile zip = countingZip(zip(6, 0), read);
+        BulkService service = bulkService(2, 1000);
+
+        // when: 평가 단계가 멈춰 있는 동안
+        CompletableFuture<BulkResponse> response = CompletableFuture.supplyAsync(() -> service.grade(requirementSet(), zip));
+        Thread.sleep(500);
+
+        // then: 제출물 2개(+ 읽기 버퍼)까지만 압축 해제
+        assertFalse(response.isDone());
+        assertTrue(read.get() < 3L * FILE_BYTES, "read=" + read.get());
+
+        evaluationGate.countDown();
+        BulkResponse result = response.get(10, TimeUnit.SECONDS);
+        assertEquals(6, result.getSubmissions().size());
+        assertTrue(result.getSubmissions().stream().allMatch(s -> s.getSummary() != null));
+    }
+
+    @Test
+    void grade_tooManyEntries_rejected() throws Exception {
+        evaluationGate.countDown();
+        MockMultipartFile zip = countingZip(zip(1, 5), new AtomicLong());
+
+        ApiException e = assertThrows(ApiException.class, () -> bulkService(2, 5).grade(requirementSet(), zip));
+        assertTrue(e.getMessage().contains("5개 이하"));
+    }
+}
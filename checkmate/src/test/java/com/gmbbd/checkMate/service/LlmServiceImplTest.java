@@ -0,0 +1,111 @@
+package com.gmbbd.checkMate.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gmbbd.checkMate.metrics.StageMetrics;
+import com.gmbbd.checkMate.model.EvaluationResult;
+import com.gmbbd.checkMate.model.Requirement;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LlmServiceImpl 단위 테스트
+ * 배치 응답에서 빠진 항목을 더 작은 배치로 한 번 다시 묻고, 그래도 빠진 항목만 단건 호출하는지 확인
+ */
+class LlmServiceImplTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    /**
+     * 미리 넣어 둔 응답 content 를 호출 순서대로 돌려주는 LlmServiceImpl
+     */
+    private LlmServiceImpl llmService(Deque<String> contents) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.fromCallable(() -> ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(objectMapper.writeValueAsString(Map.of(
+                                "choices", List.of(Map.of("message", Map.of("content", contents.remove()))))))
+                        .build()))
+                .build();
+
+        PromptTemplateRegistry promptTemplates = new PromptTemplateRegistry();
+        ReflectionTestUtils.setField(promptTemplates, "promptVersion", "1");
+        ReflectionTestUtils.setField(promptTemplates, "dir", "");
+        promptTemplates.init();
+
+        TokenEstimator tokenEstimator = new TokenEstimator();
+        ReflectionTestUtils.setField(tokenEstimator, "model", "gpt-4o-mini");
+        tokenEstimator.init();
+
+        LlmServiceImpl service = new LlmServiceImpl(webClient, objectMapper, promptTemplates, tokenEstimator,
+                new StageMetrics(meterRegistry));
+        ReflectionTestUtils.setField(service, "model", "gpt-4o-mini");
+        ReflectionTestUtils.setField(service, "maxPromptTokens", 100000);
+        return service;
+    }
+
+    private static String result(long id, String status) {
+        return "{\"requirementId\": " + id + ", \"status\": \"" + status + "\", \"score\": 1.0, \"evidence\": \"e" + id + "\"}";
+    }
+
+    private double calls(String kind) {
+        return meterRegistry.find("checkmate.llm.calls").tag("kind", kind).counters().stream()
+                .mapToDouble(c -> c.count()).sum();
+    }
+
+    @Test
+    void evaluateRequirements_missingItems_retriedAsSmallerBatchThenSingle() {
+        Deque<String> contents = new ArrayDeque<>(List.of(
+                "[" + result(1, "FULFILLED") + "]",                                  // 4개 중 1번만
+                "[" + result(2, "PARTIAL") + ", " + result(3, "NOT_FULFILLED") + "]",  // 2~4번 재요청 배치 → 4번 빠짐
+                "{\"status\": \"FULFILLED\", \"score\": 0.9, \"evidence\": \"single\"}"  // 4번 단건
+        ));
+        List<Requirement> requirements = List.of(
+                new Requirement(1L, "요구사항 1"), new Requirement(2L, "요구사항 2"),
+                new Requirement(3L, "요구사항 3"), new Requirement(4L, "요구사항 4"));
+
+        // when
+        List<EvaluationResult> results = llmService(contents).evaluateRequirements(requirements, "제출문");
+
+        // then: 배치 2회 + 단건 1회, 결과는 요구사항 순서
+        assertTrue(contents.isEmpty());
+        assertEquals(2.0, calls("batch"));
+        assertEquals(1.0, calls("single"));
+        assertEquals(List.of(1L, 2L, 3L, 4L), results.stream().map(EvaluationResult::getRequirementId).toList());
+        assertEquals(List.of("FULFILLED", "PARTIAL", "NOT_FULFILLED", "FULFILLED"),
+                results.stream().map(EvaluationResult::getStatus).toList());
+        assertEquals("single", results.get(3).getEvidence());
+    }
+
+    @Test
+    void evaluateRequirements_singleMissingItem_askedDirectly() {
+        Deque<String> contents = new ArrayDeque<>(List.of(
+                "[" + result(1, "FULFILLED") + "]",
+                "{\"status\": \"NOT_FULFILLED\", \"score\": 0.0, \"evidence\": \"single\"}"
+        ));
+        List<Requirement> requirements = List.of(new Requirement(1L, "요구사항 1"), new Requirement(2L, "요구사항 2"));
+
+        // when
+        List<EvaluationResult> results = llmService(contents).evaluateRequirements(requirements, "제출문");
+
+        // then: 빠진 항목이 하나면 재요청 배치 없이 단건 호출
+        assertEquals(1.0, calls("batch"));
+        assertEquals(1.0, calls("single"));
+        assertEquals(2L, results.get(1).getRequirementId());
+        assertEquals("NOT_FULFILLED", results.get(1).getStatus());
+    }
+}
@@ -0,0 +1,78 @@
+package com.gmbbd.checkMate.service;
+
+import com.gmbbd.checkMate.metrics.StageMetrics;
+import com.gmbbd.checkMate.model.ParsedDocument;
+import com.gmbbd.checkMate.util.TextCleaner;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ParseService 단위 테스트
+ * 페이지 수가 많은 PDF 를 여러 스레드로 나눠 추출해도 페이지 순서 / 시작 위치가 그대로인지 확인
+ */
+class ParseServiceTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    private static byte[] pdf(int pageCount) throws Exception {
+        try (PDDocument doc = new PDDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (int i = 1; i <= pageCount; i++) {
+                PDPage page = new PDPage();
+                doc.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(doc, page)) {
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 12);
+                    content.newLineAtOffset(72, 700);
+                    content.showText("page " + i);
+                    content.endText();
+                }
+            }
+            doc.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    private ParseService parseService(int maxWorkers) {
+        ParseService service = new ParseService(new TextCleaner(), new ParsedTextCache(), pool,
+                new StageMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(service, "parallelMinPages", 32);
+        ReflectionTestUtils.setField(service, "pagesPerTask", 5);
+        ReflectionTestUtils.setField(service, "maxWorkers", maxWorkers);
+        return service;
+    }
+
+    @Test
+    void parse_largePdf_parallelKeepsPageOrderAndOffsets() throws Exception {
+        byte[] content = pdf(73);
+
+        // when
+        ParsedDocument parallel = parseService(3).parse("big.pdf", content);
+        ParsedDocument sequential = parseService(1).parse("big.pdf", content);
+
+        // then: 스레드 수와 관계없이 같은 결과, 페이지 i 의 시작 위치에 "page i"
+        assertEquals(sequential.getText(), parallel.getText());
+        assertArrayEquals(sequential.getPageOffsets(), parallel.getPageOffsets());
+        assertEquals(73, parallel.getPageCount());
+        for (int i = 1; i <= 73; i++) {
+            int offset = parallel.getPageOffsets()[i - 1];
+            assertTrue(parallel.getText().startsWith("page " + i, offset), "page=" + i);
+            assertEquals(i, parallel.pageOf(offset));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.gmbbd.checkMate.service;
+
+import com.gmbbd.checkMate.metrics.StageMetrics;
+import com.gmbbd.checkMate.model.EvaluationResult;
+import com.gmbbd.checkMate.model.ParsedDocument;
+import com.gmbbd.checkMate.model.Requirement;
+import com.gmbbd.checkMate.model.SummaryResponse;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReportService 단위 테스트
+ * 여러 문자 체계 / 이모지 / BMP 밖 문자가 섞인 요구사항·근거로 TXT, PDF 보고서 생성 확인
+ * 분석과 함께 쓰는 TXT 보고서는 머리말을 평가 전에 내보내는지 확인
+ */
+class ReportServiceTest {
+
+    private static final String MIXED_REQUIREMENT = "ERD 다이어그램을 포함하시오 😀 𠀀";
+    private static final String MIXED_EVIDENCE = "Ελληνικά ü é ñ 와 한글이 섞인 근거입니다.\n두 번째 줄\t탭";
+
+    private final ReportService reportService = new ReportService(null, null);
+
+    private static SummaryResponse summary() {
+        EvaluationResult fulfilled = new EvaluationResult();
+        fulfilled.setRequirementId(1L);
+        fulfilled.setRequirementText(MIXED_REQUIREMENT);
+        fulfilled.setStatus("FULFILLED");
+        fulfilled.setScore(1.0);
+        fulfilled.setEvidence(MIXED_EVIDENCE);
+
+        EvaluationResult failed = new EvaluationResult();
+        failed.setRequirementId(2L);
+        failed.setRequirementText("로그인 기능을 구현하시오.");
+        failed.setStatus("ERROR");
+        failed.setScore(0.0);
+
+        SummaryResponse summary = SummaryResponse.from(List.of(fulfilled, failed));
+        summary.setAnalysisId("test-id");
+        return summary;
+    }
+
+    @Test
+    void writeText_mixedScripts_writtenAsUtf8() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        reportService.writeText(summary(), out);
+
+        String report = out.toString(StandardCharsets.UTF_8);
+        assertTrue(report.contains(MIXED_REQUIREMENT));
+        assertTrue(report.contains(MIXED_EVIDENCE));
+    }
+
+    @Test
+    void writeText_countsIncludeErrors() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        reportService.writeText(summary(), out);
+
+        // 상태별 줄의 합이 총 요구사항 수와 같아야 함 (PDF 요약과 같은 항목)
+        String report = out.toString(StandardCharsets.UTF_8);
+        assertTrue(report.contains("총 요구사항 수 : 2\n"));
+        assertTrue(report.contains("- 충족(FULFILLED)       : 1\n"));
+        assertTrue(report.contains("- 평가 오류(ERROR)      : 1\n"));
+    }
+
+    @Test
+    void writePdf_mixedScripts_replacesOnlyMissingGlyphs() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        reportService.writePdf(summary(), out);
+
+        try (PdfDocument pdf = new PdfDocument(new PdfReader(new ByteArrayInputStream(out.toByteArray())))) {
+            assertTrue(pdf.getNumberOfPages() >= 1);
+
+            String text = PdfTextExtractor.getTextFromPage(pdf.getFirstPage());
+            // 한글 / 라틴 악센트(Helvetica) 는 그대로, 두 폰트 모두 없는 글자(ά, 이모지, 𠀀)만 ? 로
+            assertTrue(text.contains("ERD 다이어그램을 포함하시오 ? ?"), text);
+            assertTrue(text.contains("Ελληνικ? ü é ñ"), text);
+            assertTrue(text.contains("로그인 기능을 구현하시오."), text);
+        }
+    }
+
+    @Test
+    void streamText_writesHeaderBeforeEvaluationAndStoresSummary() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<String> writtenAtFirstCall = Collections.synchronizedList(new ArrayList<>());   // 평가 스레드에서 기록
+
+        LlmService llm = (requirementText, documentText) -> {
+            if (writtenAtFirstCall.isEmpty()) {
+                writtenAtFirstCall.add(out.toString(StandardCharsets.UTF_8));
+            }
+            EvaluationResult r = new EvaluationResult();
+            r.setStatus(requirementText.contains("로그인") ? "FULFILLED" : "NOT_FULFILLED");
+            r.setScore(requirementText.contains("로그인") ? 1.0 : 0.0);
+            r.setEvidence("근거");
+            return r;
+        };
+        AnalysisService analysisService = new AnalysisService(null, null, new RequirementService(), llm,
+                new RetrievalService(), new CompareService(), new StageMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(analysisService, "mode", "llm");
+        ReflectionTestUtils.setField(analysisService, "maxConcurrency", 1);
+        ReflectionTestUtils.setField(analysisService, "batchSize", 1);
+        AnalysisStore store = new AnalysisStore();
+        ReflectionTestUtils.setField(store, "maxEntries", 10);
+
+        AnalysisService.PreparedAnalysis prepared = new AnalysisService.PreparedAnalysis(
+                List.of(new Requirement(1L, "로그인 기능을 구현하시오."), new Requirement(2L, "ERD 를 포함하시오.")),
+                new ParsedDocument("제출문"));
+
+        // when
+        SummaryResponse summary = new ReportService(analysisService, store).streamText(prepared, out);
+
+        // then: 첫 LLM 호출 시점에 머리말이 이미 전송됨
+        assertTrue(writtenAtFirstCall.get(0).contains("총 요구사항 수 : 2\n"), writtenAtFirstCall.get(0));
+        assertFalse(writtenAtFirstCall.get(0).contains("■ 요구사항"));
+
+        // 항목 뒤에 집계, 결과는 보관됨
+        String report = out.toString(StandardCharsets.UTF_8);
+        assertTrue(report.indexOf("■ 요구사항 #2") < report.indexOf("- 충족(FULFILLED)       : 1\n"), report);
+        assertTrue(report.contains("분석 ID : " + summary.getAnalysisId() + "\n"));
+        assertEquals(1, summary.getNotFulfilled());
+        assertSame(summary, store.find(summary.getAnalysisId()).orElseThrow());
+    }
+}
@@ -39,6 +39,95 @@ class RequirementServiceTest {
         assertTrue(list.get(2).getRawText().contains("요구분석 방법론"));
     }
 
+    @Test
+    void extractRequirements_nestedItems() {
+        String reqText = """
+                1. 회원 관리 기능
+                  - 회원가입 기능을 구현하시오.
+                  - 로그인 기능을 구현하시오.
+                    * 소셜 로그인을 지원하시오.
+                1.1 비밀번호 찾기 기능
+                (a) 이메일 인증을 포함하시오.
+                2. 게시판 기능
+                2.1 글쓰기 기능
+                """;
+
+        RequirementService service = new RequirementService();
+
+        // when
+        List<Requirement> list = service.extractRequirements(reqText);
+
+        // then: 목록은 등장 순서대로 평평하게, 상위 항목 번호와 깊이만 추가
+        assertEquals(8, list.size());
+        assertEquals("회원가입 기능을 구현하시오.", list.get(1).getRawText());
+
+        assertNull(list.get(0).getParentId());
+        assertEquals(1L, list.get(1).getParentId());
+        assertEquals(1L, list.get(2).getParentId());
+        assertEquals(3L, list.get(3).getParentId());
+        assertEquals(2, list.get(3).getLevel());
+        assertEquals(1L, list.get(4).getParentId());
+        assertEquals(5L, list.get(5).getParentId());
+        assertNull(list.get(6).getParentId());
+        assertEquals(0, list.get(6).getLevel());
+        assertEquals(7L, list.get(7).getParentId());
+    }
+
+    @Test
+    void extractRequirements_missingParentNumber_staysTopLevel() {
+        // "2. UI" 는 본문이 짧아서 걸러지므로 2.1 의 상위 번호 항목이 없음
+        String reqText = """
+                1. 회원 관리 기능
+                1.1 로그인 기능을 구현하시오.
+                2. UI
+                2.1 버튼 배치를 설명하시오.
+                2.1.1 버튼 색상을 명시하시오.
+                3.2 검색 기능을 구현하시오.
+                """;
+
+        RequirementService service = new RequirementService();
+
+        // when
+        List<Requirement> list = service.extractRequirements(reqText);
+
+        // then: 번호 앞부분이 같은 항목만 상위로 (2.1 이 1 아래로 들어가지 않음)
+        assertEquals(5, list.size());
+        assertEquals("버튼 배치를 설명하시오.", list.get(2).getRawText());
+
+        assertNull(list.get(0).getParentId());
+        assertEquals(1L, list.get(1).getParentId());
+        assertNull(list.get(2).getParentId());
+        assertEquals(0, list.get(2).getLevel());
+        assertEquals(3L, list.get(3).getParentId());
+        assertEquals(1, list.get(3).getLevel());
+        assertNull(list.get(4).getParentId());
+    }
+
+    @Test
+    void extractRequirements_onlyLengthFilter() {
+        // 본문 길이(3자 미만)로만 거르고, 불용어/기호뿐인 줄은 예전처럼 그대로 요구사항으로 둠
+        String reqText = """
+                1. 및 또는
+                2. UI
+                3. ERD 를 포함하시오.
+                """;
+        String proseText = "------------\n시스템 개요를 자세히 설명하시오.";
+
+        RequirementService service = new RequirementService();
+
+        // when
+        List<Requirement> numbered = service.extractRequirements(reqText);
+        List<Requirement> prose = service.extractRequirements(proseText);
+
+        // then
+        assertEquals(2, numbered.size());
+        assertEquals("및 또는", numbered.get(0).getRawText());
+        assertEquals("ERD 를 포함하시오.", numbered.get(1).getRawText());
+
+        assertEquals(2, prose.size());
+        assertEquals("------------", prose.get(0).getRawText());
+    }
+
     @Test
     void extractRequirements_emptyText_returnsEmptyList() {
         // given
@@ -0,0 +1,61 @@
+package com.gmbbd.checkMate.service;
+
+import com.gmbbd.checkMate.model.ParsedDocument;
+import com.gmbbd.checkMate.model.Requirement;
+import com.gmbbd.checkMate.util.ChunkIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RetrievalService 단위 테스트
+ * 선택한 청크 번호와 그 청크가 걸친 제출문 페이지 번호 확인
+ */
+class RetrievalServiceTest {
+
+    private static final String PAGE1 = "시스템 개요와 목표를 정리했다.\n";
+    private static final String PAGE2 = "ERD 로 테이블 관계를 정리했다.\n";
+    private static final String PAGE3 = "배포 환경과 운영 절차를 적었다.";
+
+    private static RetrievalService retrievalService() {
+        RetrievalService service = new RetrievalService();
+        ReflectionTestUtils.setField(service, "topK", 1);
+        ReflectionTestUtils.setField(service, "chunkSize", 20);
+        ReflectionTestUtils.setField(service, "chunkOverlap", 0);
+        return service;
+    }
+
+    @Test
+    void select_multiPageDocument_recordsPagesOfChunks() {
+        ParsedDocument submission = new ParsedDocument(PAGE1 + PAGE2 + PAGE3,
+                new int[]{0, PAGE1.length(), PAGE1.length() + PAGE2.length()});
+        RetrievalService service = retrievalService();
+        ChunkIndex index = service.index(submission);
+
+        // when
+        RetrievalService.RetrievedContext context = service.select(index, submission,
+                List.of(new Requirement(1L, "ERD 테이블 관계")));
+
+        // then
+        assertEquals(1, context.chunkIds().size());
+        assertTrue(context.text().contains("ERD"));
+        assertEquals(List.of(2), context.pages());
+    }
+
+    @Test
+    void select_singlePageDocument_noPages() {
+        ParsedDocument submission = new ParsedDocument(PAGE1 + PAGE2 + PAGE3);
+        RetrievalService service = retrievalService();
+
+        // when
+        RetrievalService.RetrievedContext context = service.select(service.index(submission), submission,
+                List.of(new Requirement(1L, "ERD 테이블 관계")));
+
+        // then
+        assertNotNull(context.chunkIds());
+        assertNull(context.pages());
+    }
+}
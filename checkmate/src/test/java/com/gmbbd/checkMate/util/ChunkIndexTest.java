@@ -0,0 +1,120 @@
+package com.gmbbd.checkMate.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ChunkIndex 단위 테스트
+ * 청크 경계 / 겹침, BM25 점수 순서와 top-k 확인
+ */
+class ChunkIndexTest {
+
+    private static String words(int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append("w").append(i).append(' ');
+        }
+        return sb.toString().trim();
+    }
+
+    @Test
+    void chunks_breakOnWhitespaceAndOverlap() {
+        String text = words(200);
+
+        ChunkIndex index = new ChunkIndex(text, 50, 10);
+        List<ChunkIndex.Chunk> chunks = index.getChunks();
+
+        // 원문 처음부터 끝까지 덮음
+        assertTrue(chunks.size() > 1);
+        assertEquals(0, chunks.get(0).start());
+        assertEquals(text.length(), chunks.get(chunks.size() - 1).end());
+
+        for (int i = 0; i < chunks.size(); i++) {
+            ChunkIndex.Chunk chunk = chunks.get(i);
+            assertEquals(i, chunk.id());
+            assertTrue(chunk.end() - chunk.start() <= 50, "chunk=" + chunk);
+
+            if (i + 1 < chunks.size()) {
+                ChunkIndex.Chunk next = chunks.get(i + 1);
+                // 단어 중간에서 끊지 않음
+                assertTrue(Character.isWhitespace(text.charAt(chunk.end() - 1)), "chunk=" + chunk);
+                assertTrue(Character.isWhitespace(text.charAt(next.start() - 1)), "next=" + next);
+                // 앞 청크와 겹치면서 앞으로 진행
+                assertTrue(next.start() > chunk.start() && next.start() < chunk.end(), "next=" + next);
+            }
+        }
+    }
+
+    @Test
+    void chunks_noOverlap_areContiguous() {
+        String text = words(100);
+
+        List<ChunkIndex.Chunk> chunks = new ChunkIndex(text, 40, 0).getChunks();
+
+        for (int i = 0; i + 1 < chunks.size(); i++) {
+            assertEquals(chunks.get(i).end(), chunks.get(i + 1).start());
+        }
+    }
+
+    @Test
+    void chunks_preferLineBreaks() {
+        String text = "first line about the schema\nsecond line about the api\nthird line is long enough";
+
+        List<ChunkIndex.Chunk> chunks = new ChunkIndex(text, 40, 0).getChunks();
+
+        assertEquals(3, chunks.size());
+        assertEquals("first line about the schema\n", text.substring(chunks.get(0).start(), chunks.get(0).end()));
+        assertEquals("second line about the api\n", text.substring(chunks.get(1).start(), chunks.get(1).end()));
+    }
+
+    @Test
+    void tokenize_wordsAndHangulBigrams() {
+        assertEquals(List.of("erd", "를", "spring", "요구", "구사", "사항"),
+                ChunkIndex.tokenize("ERD를 Spring, 요구사항"));
+    }
+
+    @Test
+    void search_ordersByScoreAndLimitsToK() {
+        String text = """
+                index tuning notes
+                index index index tuning
+                user interface layout
+                index index index tuning
+                """;
+        ChunkIndex index = new ChunkIndex(text, 30, 0);
+        assertEquals(4, index.size());
+
+        // 단어가 많이 나온 청크가 먼저, 동점(1, 3)이면 앞쪽 청크 먼저
+        assertEquals(List.of(1, 3, 0), index.search("index", 5));
+        assertEquals(List.of(1, 3), index.search("index", 2));
+
+        // 희귀한 단어가 흔한 단어보다 점수가 큼
+        assertEquals(List.of(2), index.search("layout", 3));
+        assertEquals(List.of(2), index.search("index layout", 1));
+    }
+
+    @Test
+    void search_noMatch_returnsLeadingChunks() {
+        ChunkIndex index = new ChunkIndex(words(100), 40, 0);
+
+        assertEquals(List.of(0, 1, 2), index.search("없는 단어", 3));
+        assertEquals(List.of(0), new ChunkIndex(words(10), 40, 0).search("zzz", 10));
+    }
+
+    @Test
+    void join_overlappingChunks_keepsTextOnce() {
+        String text = words(100);
+        ChunkIndex index = new ChunkIndex(text, 50, 10);
+        List<ChunkIndex.Chunk> chunks = index.getChunks();
+
+        // 이웃 청크는 겹친 부분을 한 번만, 떨어진 청크는 구분선으로 이어 붙임
+        assertEquals(text.substring(chunks.get(0).start(), chunks.get(1).end()), index.join(Set.of(1, 0)));
+        assertEquals(text.substring(chunks.get(0).start(), chunks.get(0).end()) + "\n...\n"
+                        + text.substring(chunks.get(3).start(), chunks.get(3).end()),
+                index.join(Set.of(0, 3)));
+    }
+}
@@ -0,0 +1,50 @@
+package com.gmbbd.checkMate.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * KeywordMatcher 단위 테스트
+ * 한 번의 스캔 결과가 키워드마다 String.contains 를 부른 결과와 같은지 확인
+ */
+class KeywordMatcherTest {
+
+    @Test
+    void findAll_overlappingKeywords() {
+        List<String> keywords = List.of("he", "she", "his", "hers", "xyz");
+
+        KeywordMatcher matcher = new KeywordMatcher(keywords);
+
+        // when
+        boolean[] found = matcher.findAll("ushers");
+
+        // then: 서로 겹치는 키워드도 모두 찾아야 한다.
+        assertArrayEquals(new boolean[]{true, true, false, true, false}, found);
+    }
+
+    @Test
+    void findAll_sameAsContains() {
+        List<String> keywords = List.of("시스템", "개요를", "설명하시오", "erd", "다이어그램을", "다이어그램");
+        String text = "본 보고서에서는 시스템의 전체적인 개요를 설명하고 데이터베이스 다이어그램에 대한 설명은 없다";
+
+        KeywordMatcher matcher = new KeywordMatcher(keywords);
+
+        // when
+        boolean[] found = matcher.findAll(text);
+
+        // then
+        for (int i = 0; i < keywords.size(); i++) {
+            assertEquals(text.contains(keywords.get(i)), found[i], "키워드: " + keywords.get(i));
+        }
+    }
+
+    @Test
+    void findAll_emptyKeywordList() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of());
+
+        assertEquals(0, matcher.findAll("아무 텍스트").length);
+    }
+}
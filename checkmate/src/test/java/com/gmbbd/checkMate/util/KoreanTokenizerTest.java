@@ -0,0 +1,55 @@
+package com.gmbbd.checkMate.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * KoreanTokenizer 단위 테스트
+ * 토큰 경계가 예전 normalizeForCompare + split 과 같은지, 조사/어미 제거가 되는지 확인
+ */
+class KoreanTokenizerTest {
+
+    private final KoreanTokenizer tokenizer = KoreanTokenizer.DEFAULT;
+
+    @Test
+    void tokenize_sameAsSplit() {
+        String text = "  ERD 다이어그램을, 포함하시오. 및 (요구분석) 방법론과 v2.0 또는   API를 ";
+
+        // when
+        List<String> tokens = tokens(text, false);
+
+        // then: 불용어(및, 또는)만 빠지고 나머지는 예전 방식과 같은 토큰
+        List<String> expected = new ArrayList<>();
+        for (String token : TextNormalizer.normalizeForCompare(text).split("\\s+")) {
+            if (!token.isBlank() && !List.of("및", "또는").contains(token)) {
+                expected.add(token);
+            }
+        }
+        assertEquals(expected, tokens);
+    }
+
+    @Test
+    void tokenize_stripSuffixes() {
+        // when
+        List<String> tokens = tokens("요구사항을 분석하여 ERD를 작성하시오 나이 추가", true);
+
+        // then: 줄기가 두 글자 미만이 되는 경우(나이, 추가)는 그대로
+        assertEquals(List.of("요구사항", "분석", "erd", "작성", "나이", "추가"), tokens);
+    }
+
+    @Test
+    void tokenize_stopWordsOnly_noTokens() {
+        assertEquals(List.of(), tokens("및 그리고 - 또는", false));
+        assertEquals(List.of("시스템", "개요"), tokens("시스템 및 개요", false));
+    }
+
+    private List<String> tokens(String text, boolean stripSuffixes) {
+        List<String> tokens = new ArrayList<>();
+        tokenizer.tokenize(text, stripSuffixes, (start, end) -> tokens.add(text.substring(start, end).toLowerCase()));
+        return tokens;
+    }
+}
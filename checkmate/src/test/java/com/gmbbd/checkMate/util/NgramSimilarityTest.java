@@ -0,0 +1,63 @@
+package com.gmbbd.checkMate.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * NgramSimilarity 단위 테스트
+ * 조사/어미가 달라도 같은 내용의 문장을 가장 비슷한 문장으로 찾는지 확인
+ */
+class NgramSimilarityTest {
+
+    @Test
+    void score_inflectedWords() {
+        NgramSimilarity similarity = new NgramSimilarity(List.of(
+                "요구사항을 분석하여 ERD를 작성한다",
+                "로그인 기능을 구현한다",
+                "배포 파이프라인 구성"
+        ));
+        String text = "이번 과제에서는 먼저 요구사항 분석을 진행했고 그 결과로 ERD 작성까지 마쳤습니다.\n"
+                + "사용자는 로그인 할 수 있도록 기능 구현을 완료했습니다.";
+
+        // when
+        NgramSimilarity.Scores scores = similarity.score(text);
+
+        // then: 단어 형태가 달라도 겹치는 n-gram 으로 찾고, 관련 없는 요구사항은 0
+        assertTrue(scores.similarity()[0] > 0.3f);
+        assertTrue(scores.similarity()[1] > 0.2f);
+        assertEquals(0f, scores.similarity()[2]);
+
+        assertTrue(scores.matched()[0] > 0);
+        assertTrue(scores.matched()[0] <= scores.total()[0]);
+        assertEquals(0, scores.matched()[2]);
+    }
+
+    @Test
+    void score_identicalSentence() {
+        NgramSimilarity similarity = new NgramSimilarity(List.of("Spring Boot 로 REST API 를 구현한다"));
+
+        // when
+        NgramSimilarity.Scores scores = similarity.score(
+                "첫 번째 문단은 프로젝트 배경과 팀 구성, 일정 관리 방식에 대해 설명합니다.\n"
+                        + "Spring Boot 로 REST API 를 구현한다.");
+
+        // then: 요구사항과 같은 문장이 따로 있으면 유사도 1
+        assertEquals(1f, scores.similarity()[0], 1e-4f);
+        assertEquals(scores.total()[0], scores.matched()[0]);
+    }
+
+    @Test
+    void score_emptyText() {
+        NgramSimilarity similarity = new NgramSimilarity(List.of("요구사항"));
+
+        // when
+        NgramSimilarity.Scores scores = similarity.score("");
+
+        // then
+        assertEquals(0f, scores.similarity()[0]);
+        assertEquals(3, scores.total()[0]);
+    }
+}
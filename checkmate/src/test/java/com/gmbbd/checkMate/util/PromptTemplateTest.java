@@ -0,0 +1,30 @@
+package com.gmbbd.checkMate.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PromptTemplate 단위 테스트
+ */
+class PromptTemplateTest {
+
+    @Test
+    void render_fillsPlaceholdersInOrder() {
+        PromptTemplate template = new PromptTemplate("지침 70% 이상\n[제출문]\n{{submission}}\n[요구사항]\n{{ requirement }}\n");
+
+        assertEquals(List.of("submission", "requirement"), template.getNames());
+        assertEquals("지침 70% 이상\n[제출문]\n본문 %s\n[요구사항]\nERD 작성\n",
+                template.render(Map.of("submission", "본문 %s", "requirement", "ERD 작성")));
+    }
+
+    @Test
+    void render_missingValue_throws() {
+        PromptTemplate template = new PromptTemplate("{{a}} {{b}}");
+
+        assertThrows(IllegalArgumentException.class, () -> template.render(Map.of("a", "1")));
+    }
+}
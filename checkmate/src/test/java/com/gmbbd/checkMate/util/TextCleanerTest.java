@@ -0,0 +1,105 @@
+package com.gmbbd.checkMate.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TextCleaner / TextNormalizer 차등 테스트
+ * 예전 정규식 구현(아래 legacy*)과 같은 입력에 대해 결과가 완전히 같은지 확인
+ */
+class TextCleanerTest {
+
+    // 제어 문자, 각종 공백, 서로게이트, 문맥 의존 소문자 등 경계 사례가 섞이도록 고른 글자들
+    private static final String[] ALPHABET = {
+            "a", "Z", "가", "힣", "ㄱ", "1", "٣", "Ⅻ", "²", "_", "-", ".", ",", "!", "(", ")", "「", "」",
+            "“", "”", "@", "#", "+", "=", "~", "$",
+            " ", " ", " ", "\t", "\n", "\n", "\r", "\r\n", "\u000B", "\f", "\u0001", "\u001F", "\u007F",
+            " ", " ", " ", " ", "​", "﻿", "­",
+            "😀", "𝐀", "\uD800", "\uDC00", "",
+            "\uD840\uDC20", "\uD840\uDC0A", "\uD840\uDC0D",   // U+20020, U+2000A, U+2000D (하위 16비트가 공백/개행/CR)
+            "İ", "Σ", "σ", "ς", "ΑΣ", "é", "é", "ß", "Ǆ"
+    };
+
+    private final TextCleaner cleaner = new TextCleaner();
+
+    @Test
+    void clean_sameAsLegacyRegex() {
+        for (String s : corpus()) {
+            assertEquals(legacyClean(s), cleaner.clean(s), () -> "input: " + escape(s));
+        }
+    }
+
+    @Test
+    void collapseWhitespace_sameAsLegacyRegex() {
+        for (String s : corpus()) {
+            assertEquals(legacyCollapse(s), TextNormalizer.collapseWhitespace(s), () -> "input: " + escape(s));
+        }
+    }
+
+    @Test
+    void normalizeForCompare_sameAsLegacyRegex() {
+        for (String s : corpus()) {
+            assertEquals(legacyCompare(s), TextNormalizer.normalizeForCompare(s), () -> "input: " + escape(s));
+        }
+    }
+
+    @Test
+    void clean_basicCase() {
+        String raw = "  1. 로그인 기능\t구현\r\n\r\n\n2.  회원가입   기능 \u0001\n  ";
+
+        assertEquals("1. 로그인 기능구현\n2. 회원가입 기능", cleaner.clean(raw));
+        assertEquals("", cleaner.clean(null));
+    }
+
+    private static List<String> corpus() {
+        List<String> corpus = new ArrayList<>(List.of(
+                "", " ", "\n", "\t\r\n", "a", " a ", "\n\na\n\n", "a  b", "a \u0001 b", "a\t\tb",
+                "a\uD840\uDC20  b", "a\uD840\uDC0A\n\nb", "ΑΣ ΑΣ.", "İstanbul", "ΣΑΣ", "a\u0001", "\u0001a", "\u0001 a \u0001",
+                "1. 요구사항을 만족해야 한다.\n\n2)  ERD 를 작성한다\r\n- 테스트 코드 작성"
+        ));
+
+        Random random = new Random(42);
+        for (int n = 0; n < 5000; n++) {
+            int length = random.nextInt(40);
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < length; i++) {
+                sb.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+            }
+            corpus.add(sb.toString());
+        }
+        return corpus;
+    }
+
+    private static String legacyClean(String raw) {
+        String text = raw.replaceAll("[^\\p{L}\\p{N}\\p{P}\\p{Z}\\n]", "");
+        text = text.replaceAll("[ \\t]{2,}", " ");
+        text = text.replaceAll("[\\r\\n]+", "\n");
+        return text.trim();
+    }
+
+    private static String legacyCollapse(String text) {
+        return text.replaceAll("\\s+", " ").trim();
+    }
+
+    private static String legacyCompare(String text) {
+        return text
+                .replaceAll("[^\\p{IsAlphabetic}\\p{IsDigit}\\s]", " ")
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    private static String escape(String s) {
+        StringBuilder sb = new StringBuilder();
+        for (char c : s.toCharArray()) {
+            sb.append(c < 0x20 || c > 0x7E ? String.format("\\u%04X", (int) c) : String.valueOf(c));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,49 @@
+package com.gmbbd.checkMate.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TextWindows 단위 테스트 (토큰 = 공백으로 나눈 단어로 셈)
+ */
+class TextWindowsTest {
+
+    private static final ToIntFunction<String> WORDS = s -> s.isBlank() ? 0 : s.trim().split(" +").length;
+
+    @Test
+    void split_withinBudget_returnsWholeText() {
+        assertEquals(List.of("a b c"), TextWindows.split("a b c", 3, 1, WORDS));
+    }
+
+    @Test
+    void split_overBudget_windowsFitAndOverlap() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            sb.append("w").append(i).append(' ');
+        }
+        String text = sb.toString().trim();
+
+        List<String> windows = TextWindows.split(text, 20, 5, WORDS);
+
+        assertTrue(windows.size() > 5, "windows=" + windows.size());
+        for (String w : windows) {
+            assertTrue(WORDS.applyAsInt(w) <= 20, w);
+        }
+        assertTrue(windows.get(0).startsWith("w0 "));
+        assertTrue(windows.get(windows.size() - 1).endsWith("w99"));
+
+        // 이웃 구간은 겹치고 모든 단어가 어느 구간에든 들어 있음
+        for (int i = 0; i + 1 < windows.size(); i++) {
+            String[] prev = windows.get(i).split(" ");
+            assertTrue(windows.get(i + 1).contains(prev[prev.length - 1]));
+        }
+        for (int i = 0; i < 100; i++) {
+            String word = "w" + i;
+            assertTrue(windows.stream().anyMatch(w -> List.of(w.split(" ")).contains(word)), word);
+        }
+    }
+}